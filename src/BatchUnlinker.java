@@ -0,0 +1,128 @@
+import java.util.function.IntPredicate;
+
+/**
+ * Removes many nodes from a doubly linked list in one pass.
+ *
+ * Calling {@link Toolbox#removeNode(DoubleNode)} once per node rewrites both neighbours of every
+ * removed node, so a run of k adjacent nodes costs 2k pointer writes on nodes that are themselves about
+ * to be dropped. These methods group the removed nodes into runs of adjacent nodes and link
+ * the survivor before each run directly to the survivor after it, so each surviving boundary is written
+ * once. Removed nodes have their {@code prev} and {@code next} cleared.
+ *
+ * Neither method is safe to run while another thread reads or changes the same list.
+ */
+public class BatchUnlinker {
+
+  private BatchUnlinker() {
+  }
+
+  /**
+   * Removes the given nodes from the list starting at head.
+   *
+   * Runs in O(k) for k nodes, independent of the length of the list, and allocates nothing. Nodes that
+   * follow each other in the collection and are adjacent in the list form one run, so a collection
+   * gathered by walking the list is unlinked with one rewrite per surviving boundary. Any other order
+   * gives the same result with less merging. The nodes must belong to the list; duplicates are ignored.
+   *
+   * @param head the head node of the doubly linked list
+   * @param nodes the nodes to remove
+   * @return the head of the remaining list: head itself if it was kept, otherwise the first
+   *         surviving node after it, or null if no node is left
+   * @throws IllegalArgumentException if head or nodes is null, or nodes contains null
+   */
+  public static DoubleNode removeAll(DoubleNode head, Iterable<? extends DoubleNode> nodes) {
+    if (head == null || nodes == null) {
+      throw new IllegalArgumentException("Head and nodes cannot be null.");
+    }
+    DoubleNode newHead = head;
+    // The open run ends at end; before is the survivor in front of it. Nodes inside the run are
+    // cleared as soon as the run grows past them, end only when the run is closed.
+    DoubleNode before = null;
+    DoubleNode end = null;
+    boolean runHasHead = false;
+    for (DoubleNode node : nodes) {
+      if (node == null) {
+        throw new IllegalArgumentException("Nodes cannot contain null.");
+      }
+      if (node == end || (node.prev == null && node.next == null && node != newHead)) {
+        // A duplicate of a node that has already been removed.
+        continue;
+      }
+      if (end != null && end.next == node) {
+        end.prev = null;
+        end.next = null;
+        end = node;
+      } else {
+        if (end != null) {
+          newHead = closeRun(before, end, runHasHead, newHead);
+        }
+        before = node.prev;
+        end = node;
+        runHasHead = false;
+      }
+      runHasHead |= node == newHead;
+    }
+    if (end != null) {
+      newHead = closeRun(before, end, runHasHead, newHead);
+    }
+    return newHead;
+  }
+
+  /**
+   * Removes every node whose value matches the predicate from the list starting at head.
+   *
+   * @param head the head node of the doubly linked list
+   * @param predicate the test deciding which values to remove
+   * @return the first surviving node, or null if every node was removed
+   * @throws IllegalArgumentException if head or predicate is null
+   */
+  public static DoubleNode removeIf(DoubleNode head, IntPredicate predicate) {
+    if (head == null || predicate == null) {
+      throw new IllegalArgumentException("Head and predicate cannot be null.");
+    }
+    DoubleNode newHead = null;
+    // The last survivor seen so far; the next survivor is linked to it once the run between them ends.
+    DoubleNode kept = head.prev;
+    DoubleNode current = head;
+    boolean inRun = false;
+    while (current != null) {
+      DoubleNode next = current.next;
+      if (predicate.test(current.data)) {
+        current.prev = null;
+        current.next = null;
+        inRun = true;
+      } else {
+        if (inRun) {
+          link(kept, current);
+          inRun = false;
+        }
+        if (newHead == null) {
+          newHead = current;
+        }
+        kept = current;
+      }
+      current = next;
+    }
+    if (inRun) {
+      link(kept, null);
+    }
+    return newHead;
+  }
+
+  private static DoubleNode closeRun(DoubleNode before, DoubleNode end, boolean runHasHead, DoubleNode head) {
+    DoubleNode after = end.next;
+    end.prev = null;
+    end.next = null;
+    link(before, after);
+    return runHasHead ? after : head;
+  }
+
+  private static void link(DoubleNode before, DoubleNode after) {
+    if (before != null) {
+      before.next = after;
+    }
+    if (after != null) {
+      after.prev = before;
+    }
+  }
+}
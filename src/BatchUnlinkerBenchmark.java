@@ -0,0 +1,91 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares {@link BatchUnlinker#removeAll(DoubleNode, Iterable)} against unlinking the
+ * same nodes one at a time, through {@link MicroBench}.
+ *
+ * Usage: {@code java BatchUnlinkerBenchmark [--sizes=1000,10000] [--warmup=ms] [--measure=ms]}
+ *
+ * Every list loses half of its nodes, in runs of 1 to 64 adjacent nodes. The one-at-a-time baseline is
+ * the per-node unlink that {@link Toolbox#removeNode(DoubleNode)} documents, written out here so the
+ * comparison does not depend on the Toolbox implementation. Building the list is part of the untimed
+ * setup.
+ */
+public class BatchUnlinkerBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000};
+  private static final int[] RUN_LENGTHS = {1, 8, 64};
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    long warmup = 500;
+    long measure = 1000;
+    for (String arg : args) {
+      if (arg.startsWith("--sizes=")) {
+        sizes = Arrays.stream(arg.substring("--sizes=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Long.parseLong(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    MicroBench bench = new MicroBench(warmup, measure);
+    System.out.println(MicroBench.Result.header());
+    for (int size : sizes) {
+      for (int run : RUN_LENGTHS) {
+        System.out.println(bench.runWithSetup("one by one run" + run, size,
+            () -> new Setup(size, run), BatchUnlinkerBenchmark::removeOneByOne));
+        System.out.println(bench.runWithSetup("removeAll run" + run, size,
+            () -> new Setup(size, run), s -> BatchUnlinker.removeAll(s.head, s.victims)));
+        System.out.println(bench.runWithSetup("removeIf run" + run, size,
+            () -> new Setup(size, run), s -> BatchUnlinker.removeIf(s.head, value -> value < 0)));
+      }
+    }
+  }
+
+  // A fresh list where alternating runs of the given length are removed. Their values are made negative
+  // (the generated values never are) so removeIf selects the same nodes.
+  private static final class Setup {
+    final DoubleNode head;
+    final List<DoubleNode> victims = new ArrayList<>();
+
+    Setup(int size, int run) {
+      DoubleNode first = ToolboxBenchmark.doubleChainTail(size);
+      while (first.prev != null) {
+        first = first.prev;
+      }
+      head = first;
+      int i = 0;
+      for (DoubleNode current = head; current != null; current = current.next, i++) {
+        if ((i / run & 1) == 1) {
+          current.data = -1 - current.data;
+          victims.add(current);
+        }
+      }
+    }
+  }
+
+  private static DoubleNode removeOneByOne(Setup setup) {
+    DoubleNode head = setup.head;
+    for (DoubleNode node : setup.victims) {
+      if (node == head) {
+        head = node.next;
+      }
+      if (node.prev != null) {
+        node.prev.next = node.next;
+      }
+      if (node.next != null) {
+        node.next.prev = node.prev;
+      }
+      node.prev = null;
+      node.next = null;
+    }
+    return head;
+  }
+}
@@ -0,0 +1,128 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class BatchUnlinkerTest {
+
+    // ----------------------------------------------------------------------
+    // removeAll
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testRemoveAllMiddleRuns() {
+        DoubleNode[] nodes = nodes(DoubleNode.fromList(List.of(0, 1, 2, 3, 4, 5, 6)));
+        DoubleNode head = BatchUnlinker.removeAll(nodes[0], List.of(nodes[4], nodes[1], nodes[2], nodes[5]));
+        assertSame(nodes[0], head);
+        assertEquals(List.of(0, 3, 6), head.toList());
+        assertLinked(head);
+        assertNull(nodes[1].next);
+        assertNull(nodes[5].prev);
+    }
+
+    @Test
+    void testRemoveAllHeadRunReportsNewHead() {
+        DoubleNode[] nodes = nodes(DoubleNode.fromList(List.of(0, 1, 2, 3)));
+        DoubleNode head = BatchUnlinker.removeAll(nodes[0], List.of(nodes[1], nodes[0], nodes[3]));
+        assertSame(nodes[2], head);
+        assertNull(head.prev);
+        assertEquals(List.of(2), head.toList());
+    }
+
+    @Test
+    void testRemoveAllEverythingAndDuplicates() {
+        DoubleNode[] nodes = nodes(DoubleNode.fromList(List.of(0, 1, 2)));
+        assertNull(BatchUnlinker.removeAll(nodes[0], List.of(nodes[2], nodes[0], nodes[1], nodes[2])));
+    }
+
+    @Test
+    void testRemoveAllEmptyCollection() {
+        DoubleNode head = DoubleNode.fromList(List.of(4, 5));
+        assertSame(head, BatchUnlinker.removeAll(head, List.of()));
+        assertEquals(List.of(4, 5), head.toList());
+    }
+
+    @Test
+    void testRemoveAllRandomSelections() {
+        Random random = new Random(14);
+        for (int round = 0; round < 200; round++) {
+            int size = 1 + random.nextInt(40);
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                values.add(i);
+            }
+            DoubleNode[] nodes = nodes(DoubleNode.fromList(values));
+            List<DoubleNode> victims = new ArrayList<>();
+            List<Integer> expected = new ArrayList<>();
+            for (DoubleNode node : nodes) {
+                if (random.nextInt(3) == 0) {
+                    victims.add(node);
+                } else {
+                    expected.add(node.data);
+                }
+            }
+            if (round % 2 == 1) {
+                // Out of list order, with duplicates.
+                victims.addAll(victims.subList(0, victims.size() / 2));
+                Collections.shuffle(victims, random);
+            }
+            DoubleNode head = BatchUnlinker.removeAll(nodes[0], victims);
+            if (expected.isEmpty()) {
+                assertNull(head);
+            } else {
+                assertEquals(expected, head.toList());
+                assertNull(head.prev);
+                assertLinked(head);
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // removeIf
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testRemoveIf() {
+        DoubleNode head = DoubleNode.fromList(List.of(7, 8, 1, 9, 9, 2, 10));
+        DoubleNode result = BatchUnlinker.removeIf(head, value -> value > 5);
+        assertEquals(List.of(1, 2), result.toList());
+        assertNull(result.prev);
+        assertLinked(result);
+    }
+
+    @Test
+    void testRemoveIfNothingOrEverything() {
+        DoubleNode head = DoubleNode.fromList(List.of(1, 2, 3));
+        assertSame(head, BatchUnlinker.removeIf(head, value -> false));
+        assertEquals(List.of(1, 2, 3), head.toList());
+        assertNull(BatchUnlinker.removeIf(head, value -> true));
+    }
+
+    @Test
+    void testNullArguments() {
+        DoubleNode head = new DoubleNode(1);
+        assertThrows(IllegalArgumentException.class, () -> BatchUnlinker.removeAll(null, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> BatchUnlinker.removeAll(head, null));
+        assertThrows(IllegalArgumentException.class, () -> BatchUnlinker.removeAll(head, Arrays.asList((DoubleNode) null)));
+        assertThrows(IllegalArgumentException.class, () -> BatchUnlinker.removeIf(null, value -> true));
+        assertThrows(IllegalArgumentException.class, () -> BatchUnlinker.removeIf(head, null));
+    }
+
+    private static DoubleNode[] nodes(DoubleNode head) {
+        List<DoubleNode> nodes = new ArrayList<>();
+        for (DoubleNode current = head; current != null; current = current.next) {
+            nodes.add(current);
+        }
+        return nodes.toArray(new DoubleNode[0]);
+    }
+
+    private static void assertLinked(DoubleNode head) {
+        for (DoubleNode current = head; current.next != null; current = current.next) {
+            assertSame(current, current.next.prev);
+        }
+    }
+}
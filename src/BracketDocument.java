@@ -0,0 +1,360 @@
+/**
+ * An editable text that keeps its parentheses balance up to date, so checking the balance after an
+ * edit does not rescan the whole text.
+ *
+ * The text is held in chunks of up to {@value #MAX_CHUNK} chars, kept in order in an implicit treap
+ * (a randomized balanced binary tree ordered by position). Every tree node stores, for its whole
+ * subtree, the number of chars, the net depth change and the lowest depth reached relative to the
+ * subtree's start: the same (net, min) pair that {@link BracketValidator} combines for its parallel
+ * checks. Inserting or deleting text changes O(log n) nodes in expectation and recomputes the pairs
+ * along the way, so {@link #isBalanced()} is O(1) and {@link #firstImbalance()} is O(log n) plus one
+ * chunk scan.
+ *
+ * The rules and offsets are those of {@link BracketValidator#firstImbalance(CharSequence)}: only '(' and
+ * ')' are significant, and the first imbalance is the first unmatched ')', or, if there is none, the
+ * first '(' that is never closed.
+ */
+public class BracketDocument {
+
+  static final int MAX_CHUNK = 256;
+
+  private static final class Node {
+    String chunk;
+    // Depth change and lowest depth (never above 0) over this node's own chunk.
+    int chunkNet;
+    int chunkMin;
+    // The same over the whole subtree, plus its length in chars.
+    int size;
+    long net;
+    long min;
+    final int priority;
+    Node left;
+    Node right;
+
+    Node(String chunk, int priority) {
+      this.priority = priority;
+      setChunk(chunk);
+    }
+
+    void setChunk(String text) {
+      chunk = text;
+      int depth = 0;
+      int lowest = 0;
+      for (int i = 0; i < text.length(); i++) {
+        char c = text.charAt(i);
+        if (c == '(') {
+          depth++;
+        } else if (c == ')') {
+          depth--;
+          lowest = Math.min(lowest, depth);
+        }
+      }
+      chunkNet = depth;
+      chunkMin = lowest;
+      update();
+    }
+
+    void update() {
+      long leftNet = left == null ? 0 : left.net;
+      size = size(left) + chunk.length() + size(right);
+      min = Math.min(left == null ? 0 : left.min, leftNet + chunkMin);
+      net = leftNet + chunkNet;
+      if (right != null) {
+        min = Math.min(min, net + right.min);
+        net += right.net;
+      }
+    }
+  }
+
+  private Node root;
+  private int seed = 0x2545F491;
+
+  /**
+   * Constructs an empty document.
+   */
+  public BracketDocument() {
+  }
+
+  /**
+   * Constructs a document holding the given text.
+   *
+   * @param text the initial text
+   * @throws IllegalArgumentException if text is null
+   */
+  public BracketDocument(CharSequence text) {
+    insert(0, text);
+  }
+
+  /**
+   * Returns the number of chars in the document.
+   *
+   * @return the document length
+   */
+  public int length() {
+    return size(root);
+  }
+
+  /**
+   * Returns whether every '(' in the document is closed by a later ')' and every ')' closes an
+   * earlier '(', in O(1).
+   *
+   * @return true if the document has balanced parentheses
+   */
+  public boolean isBalanced() {
+    return root == null || (root.net == 0 && root.min == 0);
+  }
+
+  /**
+   * Finds the first parentheses imbalance.
+   *
+   * @return the char offset of the first unmatched ')', or of the first unclosed '(' if every ')' is
+   *         matched, or {@link BracketValidator#BALANCED}
+   */
+  public long firstImbalance() {
+    if (root == null) {
+      return BracketValidator.BALANCED;
+    }
+    if (root.min < 0) {
+      return firstBelowZero(root, 0);
+    }
+    if (root.net > 0) {
+      // The depth never drops below zero, so the first unclosed '(' starts right after the last point
+      // where the depth is zero.
+      return lastZero(root, 0);
+    }
+    return BracketValidator.BALANCED;
+  }
+
+  /**
+   * Inserts text at an offset.
+   *
+   * @param offset the position to insert at, from 0 to {@link #length()}
+   * @param text the text to insert
+   * @throws IllegalArgumentException if text is null or offset is outside the document
+   */
+  public void insert(int offset, CharSequence text) {
+    if (text == null || offset < 0 || offset > length()) {
+      throw new IllegalArgumentException("Text cannot be null and offset must lie within the document.");
+    }
+    if (text.length() == 0) {
+      return;
+    }
+    String inserted = text.toString();
+    if (root != null && inserted.length() <= MAX_CHUNK && insertInChunk(root, offset, inserted)) {
+      return;
+    }
+    Node[] parts = split(root, offset);
+    Node middle = null;
+    for (int i = 0; i < inserted.length(); i += MAX_CHUNK) {
+      middle = merge(middle, new Node(inserted.substring(i, Math.min(i + MAX_CHUNK, inserted.length())), nextPriority()));
+    }
+    root = merge(merge(parts[0], middle), parts[1]);
+  }
+
+  /**
+   * Deletes a range of text.
+   *
+   * @param offset the position of the first char to delete
+   * @param count the number of chars to delete
+   * @throws IllegalArgumentException if the range is not within the document
+   */
+  public void delete(int offset, int count) {
+    if (offset < 0 || count < 0 || offset > length() - count) {
+      throw new IllegalArgumentException("The range must lie within the document.");
+    }
+    if (count == 0 || deleteInChunk(root, offset, count)) {
+      return;
+    }
+    Node[] head = split(root, offset);
+    Node[] tail = split(head[1], count);
+    root = merge(head[0], tail[1]);
+  }
+
+  /**
+   * Returns the text of the document.
+   *
+   * @return the document's chars as a String
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(length());
+    append(root, builder);
+    return builder.toString();
+  }
+
+  // Edits the chunk that contains offset in place if the result still fits, updating the path back up.
+  private static boolean insertInChunk(Node node, int offset, String text) {
+    int leftSize = size(node.left);
+    boolean done;
+    if (offset < leftSize) {
+      done = insertInChunk(node.left, offset, text);
+    } else if (offset <= leftSize + node.chunk.length()) {
+      int at = offset - leftSize;
+      if (node.chunk.length() + text.length() > MAX_CHUNK) {
+        return false;
+      }
+      node.setChunk(node.chunk.substring(0, at) + text + node.chunk.substring(at));
+      return true;
+    } else {
+      done = insertInChunk(node.right, offset - leftSize - node.chunk.length(), text);
+    }
+    if (done) {
+      node.update();
+    }
+    return done;
+  }
+
+  // Deletes in place if the range lies inside one chunk and leaves it non-empty.
+  private static boolean deleteInChunk(Node node, int offset, int count) {
+    int leftSize = size(node.left);
+    int chunkLength = node.chunk.length();
+    boolean done;
+    if (offset < leftSize) {
+      if (offset + count > leftSize) {
+        return false;
+      }
+      done = deleteInChunk(node.left, offset, count);
+    } else if (offset < leftSize + chunkLength) {
+      int at = offset - leftSize;
+      if (at + count > chunkLength || count == chunkLength) {
+        return false;
+      }
+      node.setChunk(node.chunk.substring(0, at) + node.chunk.substring(at + count));
+      return true;
+    } else {
+      done = deleteInChunk(node.right, offset - leftSize - chunkLength, count);
+    }
+    if (done) {
+      node.update();
+    }
+    return done;
+  }
+
+  // Splits a subtree into its first k chars and the rest, cutting a chunk in two if needed.
+  private Node[] split(Node node, int k) {
+    if (node == null) {
+      return new Node[2];
+    }
+    int leftSize = size(node.left);
+    int chunkLength = node.chunk.length();
+    if (k <= leftSize) {
+      Node[] parts = split(node.left, k);
+      node.left = parts[1];
+      node.update();
+      parts[1] = node;
+      return parts;
+    }
+    if (k >= leftSize + chunkLength) {
+      Node[] parts = split(node.right, k - leftSize - chunkLength);
+      node.right = parts[0];
+      node.update();
+      parts[0] = node;
+      return parts;
+    }
+    int at = k - leftSize;
+    Node rest = new Node(node.chunk.substring(at), nextPriority());
+    Node right = node.right;
+    node.right = null;
+    node.setChunk(node.chunk.substring(0, at));
+    return new Node[] {node, merge(rest, right)};
+  }
+
+  private static Node merge(Node left, Node right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    if (left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      left.update();
+      return left;
+    }
+    right.left = merge(left, right.left);
+    right.update();
+    return right;
+  }
+
+  // Offset of the first ')' that takes the depth, starting at base, below zero.
+  private static long firstBelowZero(Node node, long base) {
+    long offset = 0;
+    while (true) {
+      if (node.left != null && base + node.left.min < 0) {
+        node = node.left;
+        continue;
+      }
+      long leftNet = node.left == null ? 0 : node.left.net;
+      offset += size(node.left);
+      base += leftNet;
+      if (base + node.chunkMin < 0) {
+        long depth = base;
+        for (int i = 0; ; i++) {
+          char c = node.chunk.charAt(i);
+          if (c == '(') {
+            depth++;
+          } else if (c == ')' && --depth < 0) {
+            return offset + i;
+          }
+        }
+      }
+      offset += node.chunk.length();
+      base += node.chunkNet;
+      node = node.right;
+    }
+  }
+
+  // The last offset, from 0 to the subtree size, at which the depth starting from base is zero.
+  // Only called when the depth never goes below zero and does reach zero somewhere in the subtree.
+  private static long lastZero(Node node, long base) {
+    long offset = 0;
+    while (true) {
+      long leftNet = node.left == null ? 0 : node.left.net;
+      long chunkBase = base + leftNet;
+      long rightBase = chunkBase + node.chunkNet;
+      if (node.right != null && rightBase + node.right.min == 0) {
+        offset += size(node.left) + node.chunk.length();
+        base = rightBase;
+        node = node.right;
+        continue;
+      }
+      if (chunkBase + node.chunkMin == 0) {
+        long depth = chunkBase;
+        int last = depth == 0 ? 0 : -1;
+        for (int i = 0; i < node.chunk.length(); i++) {
+          char c = node.chunk.charAt(i);
+          if (c == '(') {
+            depth++;
+          } else if (c == ')') {
+            depth--;
+          }
+          if (depth == 0) {
+            last = i + 1;
+          }
+        }
+        return offset + size(node.left) + last;
+      }
+      node = node.left;
+    }
+  }
+
+  private static void append(Node node, StringBuilder builder) {
+    if (node != null) {
+      append(node.left, builder);
+      builder.append(node.chunk);
+      append(node.right, builder);
+    }
+  }
+
+  private static int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+
+  // xorshift; the priorities only need to be well spread, not unpredictable.
+  private int nextPriority() {
+    seed ^= seed << 13;
+    seed ^= seed >>> 17;
+    seed ^= seed << 5;
+    return seed;
+  }
+}
@@ -0,0 +1,59 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Compares keeping a {@link BracketDocument} up to date with rescanning the whole text after every edit.
+ *
+ * Usage: {@code java BracketDocumentBenchmark [--sizes=1000,100000] [--warmup=ms] [--measure=ms]}
+ *
+ * Each operation types one '(' at a random position, asks whether the text is balanced and where the
+ * first imbalance is, then deletes the char again. The "rescan" rows make the same edits to a
+ * StringBuilder and run {@link BracketValidator#firstImbalance(CharSequence)} over all of it.
+ */
+public class BracketDocumentBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {1_000, 100_000, 10_000_000};
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    long warmup = 500;
+    long measure = 1000;
+    for (String arg : args) {
+      if (arg.startsWith("--sizes=")) {
+        sizes = Arrays.stream(arg.substring("--sizes=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Long.parseLong(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    MicroBench bench = new MicroBench(warmup, measure);
+    System.out.println(MicroBench.Result.header());
+    for (int size : sizes) {
+      String text = ToolboxBenchmark.parentheses(size);
+      SplittableRandom random = new SplittableRandom(size);
+
+      BracketDocument document = new BracketDocument(text);
+      System.out.println(bench.run("document edit+query", size, document, d -> {
+        int offset = random.nextInt(d.length() + 1);
+        d.insert(offset, "(");
+        long result = d.isBalanced() ? 0 : d.firstImbalance();
+        d.delete(offset, 1);
+        return result;
+      }));
+
+      StringBuilder builder = new StringBuilder(text);
+      System.out.println(bench.run("rescan edit+query", size, builder, b -> {
+        int offset = random.nextInt(b.length() + 1);
+        b.insert(offset, '(');
+        long result = BracketValidator.firstImbalance(b);
+        b.deleteCharAt(offset);
+        return result;
+      }));
+    }
+  }
+}
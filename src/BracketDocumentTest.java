@@ -0,0 +1,114 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class BracketDocumentTest {
+
+    // ----------------------------------------------------------------------
+    // isBalanced / firstImbalance
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testEmptyDocument() {
+        BracketDocument document = new BracketDocument();
+        assertTrue(document.isBalanced());
+        assertEquals(BracketValidator.BALANCED, document.firstImbalance());
+        assertEquals(0, document.length());
+        assertEquals("", document.toString());
+    }
+
+    @Test
+    void testMatchesValidatorOnSmallInputs() {
+        String[] inputs = {"()", "(()())", "a(b)c", "(()", "())", ")(", "((a)", "(()))(", "x)(", "((", "(a)(b"};
+        for (String input : inputs) {
+            BracketDocument document = new BracketDocument(input);
+            assertEquals(BracketValidator.hasBalancedParentheses(input), document.isBalanced(), input);
+            assertEquals(BracketValidator.firstImbalance(input), document.firstImbalance(), input);
+        }
+    }
+
+    @Test
+    void testEditsUpdateBalance() {
+        BracketDocument document = new BracketDocument("f(a, g(b)");
+        assertFalse(document.isBalanced());
+        assertEquals(1, document.firstImbalance());
+        document.insert(9, ")");
+        assertTrue(document.isBalanced());
+        document.delete(6, 1);
+        assertEquals("f(a, gb))", document.toString());
+        assertEquals(8, document.firstImbalance());
+    }
+
+    // ----------------------------------------------------------------------
+    // random edits against a full rescan
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testRandomEditsMatchRescan() {
+        Random random = new Random(23);
+        BracketDocument document = new BracketDocument();
+        StringBuilder expected = new StringBuilder();
+        for (int step = 0; step < 5_000; step++) {
+            int choice = random.nextInt(10);
+            if (choice < 6 || expected.length() == 0) {
+                int offset = random.nextInt(expected.length() + 1);
+                String text = randomText(random, choice == 0 ? random.nextInt(1_000) : 1 + random.nextInt(4));
+                document.insert(offset, text);
+                expected.insert(offset, text);
+            } else {
+                int offset = random.nextInt(expected.length());
+                int count = random.nextInt(Math.min(expected.length() - offset, choice == 9 ? 600 : 3) + 1);
+                document.delete(offset, count);
+                expected.delete(offset, offset + count);
+            }
+            assertEquals(expected.length(), document.length());
+            assertEquals(BracketValidator.hasBalancedParentheses(expected), document.isBalanced());
+            assertEquals(BracketValidator.firstImbalance(expected), document.firstImbalance());
+        }
+        assertEquals(expected.toString(), document.toString());
+    }
+
+    @Test
+    void testLargeBalancedDocumentStaysConsistent() {
+        StringBuilder expected = new StringBuilder("(".repeat(50_000) + ")".repeat(50_000));
+        BracketDocument document = new BracketDocument(expected);
+        assertTrue(document.isBalanced());
+        Random random = new Random(7);
+        for (int step = 0; step < 200; step++) {
+            int offset = random.nextInt(expected.length());
+            document.insert(offset, "(");
+            expected.insert(offset, '(');
+            assertEquals(BracketValidator.firstImbalance(expected), document.firstImbalance());
+            document.delete(offset, 1);
+            expected.deleteCharAt(offset);
+            assertTrue(document.isBalanced());
+        }
+        assertEquals(expected.toString(), document.toString());
+    }
+
+    // ----------------------------------------------------------------------
+    // argument checks
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testInvalidArguments() {
+        BracketDocument document = new BracketDocument("(a)");
+        assertThrows(IllegalArgumentException.class, () -> new BracketDocument(null));
+        assertThrows(IllegalArgumentException.class, () -> document.insert(0, null));
+        assertThrows(IllegalArgumentException.class, () -> document.insert(4, "x"));
+        assertThrows(IllegalArgumentException.class, () -> document.insert(-1, "x"));
+        assertThrows(IllegalArgumentException.class, () -> document.delete(2, 2));
+        assertThrows(IllegalArgumentException.class, () -> document.delete(0, -1));
+        assertEquals("(a)", document.toString());
+    }
+
+    private static String randomText(Random random, int length) {
+        char[] alphabet = {'(', ')', '(', ')', 'a', ' '};
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,329 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Checks parentheses balance over inputs that are too large to hold as one {@link String}.
+ *
+ * These are streaming counterparts of {@link Toolbox#hasBalancedParentheses(String)} with the same
+ * rules: only '(' and ')' are significant and every other character is ignored. Instead of a stack
+ * they keep a running depth, so memory use is O(1) whatever the input size.
+ *
+ * The {@code firstImbalance} methods also locate the problem. If some ')' has no matching '(',
+ * they return the offset of the first such ')'. Otherwise, if some '(' is never closed, they return
+ * the offset of the first unclosed '(', which is the last '(' that raised the depth from zero. Offsets count
+ * chars for {@link CharSequence} and {@link Reader} inputs and bytes for files.
+ *
+ * The {@code hasBalancedParenthesesParallel} methods split the input into chunks and reduce each
+ * chunk to a pair (net depth change, lowest depth reached relative to the chunk start). Pairs combine
+ * associatively, so the chunks are summarized on a {@link ForkJoinPool} and merged pairwise; the input
+ * is balanced exactly when the combined pair is (0, 0). They only answer yes or no, so use
+ * {@code firstImbalance} to locate a problem once one is known to exist.
+ */
+public class BracketValidator {
+
+  /**
+   * Returned by the {@code firstImbalance} methods when the input is balanced.
+   */
+  public static final long BALANCED = -1;
+
+  private static final int READ_BUFFER_CHARS = 8192;
+  private static final long MAP_CHUNK_BYTES = 64L << 20;
+  private static final int PARALLEL_CHUNK_CHARS = 1 << 16;
+  private static final long PARALLEL_CHUNK_BYTES = 1L << 20;
+
+  private BracketValidator() {
+  }
+
+  /**
+   * Checks if a character sequence has balanced parentheses.
+   *
+   * @param input the characters to check
+   * @return true if the input has balanced parentheses, false otherwise
+   * @throws IllegalArgumentException if the input is null
+   */
+  public static boolean hasBalancedParentheses(CharSequence input) {
+    return firstImbalance(input) == BALANCED;
+  }
+
+  /**
+   * Checks if the characters read from a reader have balanced parentheses.
+   * The reader is read to the end, or until the first unmatched ')', but is not closed.
+   *
+   * @param input the reader to check
+   * @return true if the input has balanced parentheses, false otherwise
+   * @throws IllegalArgumentException if the input is null
+   * @throws IOException if reading fails
+   */
+  public static boolean hasBalancedParentheses(Reader input) throws IOException {
+    return firstImbalance(input) == BALANCED;
+  }
+
+  /**
+   * Checks if a file has balanced parentheses. The file is scanned as bytes through memory-mapped
+   * windows, so any ASCII-compatible encoding such as UTF-8 works.
+   *
+   * @param file the file to check
+   * @return true if the file has balanced parentheses, false otherwise
+   * @throws IllegalArgumentException if the file is null
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean hasBalancedParentheses(Path file) throws IOException {
+    return firstImbalance(file) == BALANCED;
+  }
+
+  /**
+   * Finds the first parentheses imbalance in a character sequence.
+   *
+   * @param input the characters to check
+   * @return the char offset of the first imbalance, or {@link #BALANCED}
+   * @throws IllegalArgumentException if the input is null
+   */
+  public static long firstImbalance(CharSequence input) {
+    if (input == null) {
+      throw new IllegalArgumentException("Input cannot be null.");
+    }
+    Scan scan = new Scan();
+    for (int i = 0; i < input.length(); i++) {
+      if (!scan.accept(input.charAt(i), i)) {
+        return i;
+      }
+    }
+    return scan.finish();
+  }
+
+  /**
+   * Finds the first parentheses imbalance in the characters read from a reader.
+   * The reader is read to the end, or until the first unmatched ')', but is not closed.
+   *
+   * @param input the reader to check
+   * @return the char offset of the first imbalance, or {@link #BALANCED}
+   * @throws IllegalArgumentException if the input is null
+   * @throws IOException if reading fails
+   */
+  public static long firstImbalance(Reader input) throws IOException {
+    if (input == null) {
+      throw new IllegalArgumentException("Input cannot be null.");
+    }
+    Scan scan = new Scan();
+    char[] buffer = new char[READ_BUFFER_CHARS];
+    long offset = 0;
+    int read;
+    while ((read = input.read(buffer)) != -1) {
+      for (int i = 0; i < read; i++, offset++) {
+        if (!scan.accept(buffer[i], offset)) {
+          return offset;
+        }
+      }
+    }
+    return scan.finish();
+  }
+
+  /**
+   * Finds the first parentheses imbalance in a file, scanning it as bytes through
+   * memory-mapped windows of 64 MiB.
+   *
+   * @param file the file to check
+   * @return the byte offset of the first imbalance, or {@link #BALANCED}
+   * @throws IllegalArgumentException if the file is null
+   * @throws IOException if the file cannot be read
+   */
+  public static long firstImbalance(Path file) throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("File cannot be null.");
+    }
+    Scan scan = new Scan();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      for (long start = 0; start < size; start += MAP_CHUNK_BYTES) {
+        int length = (int) Math.min(MAP_CHUNK_BYTES, size - start);
+        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        for (int i = 0; i < length; i++) {
+          if (!scan.accept((char) window.get(i), start + i)) {
+            return start + i;
+          }
+        }
+      }
+    }
+    return scan.finish();
+  }
+
+  /**
+   * Checks if a character sequence has balanced parentheses, scanning chunks of it in parallel on
+   * the common fork-join pool. The sequence must not change during the call.
+   *
+   * @param input the characters to check
+   * @return true if the input has balanced parentheses, false otherwise
+   * @throws IllegalArgumentException if the input is null
+   */
+  public static boolean hasBalancedParenthesesParallel(CharSequence input) {
+    return hasBalancedParenthesesParallel(input, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Checks if a character sequence has balanced parentheses, scanning chunks of it in parallel on
+   * the given pool. The sequence must not change during the call.
+   *
+   * @param input the characters to check
+   * @param pool the pool to scan on
+   * @return true if the input has balanced parentheses, false otherwise
+   * @throws IllegalArgumentException if the input or pool is null
+   */
+  public static boolean hasBalancedParenthesesParallel(CharSequence input, ForkJoinPool pool) {
+    if (input == null || pool == null) {
+      throw new IllegalArgumentException("Input and pool cannot be null.");
+    }
+    return pool.invoke(new CharsSummary(input, 0, input.length())).isBalanced();
+  }
+
+  /**
+   * Checks if a file has balanced parentheses, mapping and scanning 1 MiB chunks of it in
+   * parallel on the given pool.
+   *
+   * @param file the file to check
+   * @param pool the pool to scan on
+   * @return true if the file has balanced parentheses, false otherwise
+   * @throws IllegalArgumentException if the file or pool is null
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean hasBalancedParenthesesParallel(Path file, ForkJoinPool pool) throws IOException {
+    if (file == null || pool == null) {
+      throw new IllegalArgumentException("File and pool cannot be null.");
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return pool.invoke(new BytesSummary(channel, 0, channel.size())).isBalanced();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  // The effect of a chunk on the depth: its net change and the lowest depth reached (never above 0).
+  private static class Summary {
+    final long net;
+    final long min;
+
+    Summary(long net, long min) {
+      this.net = net;
+      this.min = min;
+    }
+
+    Summary then(Summary next) {
+      return new Summary(net + next.net, Math.min(min, net + next.min));
+    }
+
+    boolean isBalanced() {
+      return net == 0 && min == 0;
+    }
+  }
+
+  private static class CharsSummary extends RecursiveTask<Summary> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final CharSequence input;
+    private final int from;
+    private final int to;
+
+    CharsSummary(CharSequence input, int from, int to) {
+      this.input = input;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Summary compute() {
+      if (to - from <= PARALLEL_CHUNK_CHARS) {
+        long depth = 0;
+        long min = 0;
+        for (int i = from; i < to; i++) {
+          char c = input.charAt(i);
+          if (c == '(') {
+            depth++;
+          } else if (c == ')' && --depth < min) {
+            min = depth;
+          }
+        }
+        return new Summary(depth, min);
+      }
+      int middle = (from + to) >>> 1;
+      CharsSummary right = new CharsSummary(input, middle, to);
+      right.fork();
+      Summary left = new CharsSummary(input, from, middle).compute();
+      return left.then(right.join());
+    }
+  }
+
+  private static class BytesSummary extends RecursiveTask<Summary> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final FileChannel channel;
+    private final long from;
+    private final long to;
+
+    BytesSummary(FileChannel channel, long from, long to) {
+      this.channel = channel;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Summary compute() {
+      if (to - from <= PARALLEL_CHUNK_BYTES) {
+        MappedByteBuffer window;
+        try {
+          window = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        long depth = 0;
+        long min = 0;
+        for (int i = 0, length = (int) (to - from); i < length; i++) {
+          byte b = window.get(i);
+          if (b == '(') {
+            depth++;
+          } else if (b == ')' && --depth < min) {
+            min = depth;
+          }
+        }
+        return new Summary(depth, min);
+      }
+      long middle = (from + to) >>> 1;
+      BytesSummary right = new BytesSummary(channel, middle, to);
+      right.fork();
+      Summary left = new BytesSummary(channel, from, middle).compute();
+      return left.then(right.join());
+    }
+  }
+
+  // Running state of one scan: the current depth and where the depth last rose from zero.
+  private static class Scan {
+    long depth;
+    long lastOpenFromZero = BALANCED;
+
+    // Returns false at the first ')' that has no matching '('.
+    boolean accept(char c, long offset) {
+      if (c == '(') {
+        if (depth++ == 0) {
+          lastOpenFromZero = offset;
+        }
+      } else if (c == ')') {
+        if (depth == 0) {
+          return false;
+        }
+        depth--;
+      }
+      return true;
+    }
+
+    long finish() {
+      return depth == 0 ? BALANCED : lastOpenFromZero;
+    }
+  }
+}
@@ -0,0 +1,74 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares sequential and parallel bracket validation through {@link MicroBench}.
+ *
+ * Usage: {@code java BracketValidatorBenchmark [--sizes-mb=1,16,256,1024] [--warmup=ms] [--measure=ms]}
+ *
+ * Each size is checked both as an in-memory {@link String} and as a temporary file. The default
+ * sizes run from 1 MB to 1 GB; the largest String needs a heap of about 2 GB ({@code -Xmx3g}),
+ * and the temporary files need the same amount of free disk space. The inputs are balanced, so
+ * every variant reads the whole input.
+ */
+public class BracketValidatorBenchmark {
+
+  private static final int[] DEFAULT_SIZES_MB = {1, 16, 256, 1024};
+  private static final String PATTERN = "(()(x))(y)";
+
+  public static void main(String[] args) throws IOException {
+    int[] sizesMb = DEFAULT_SIZES_MB;
+    long warmup = 500;
+    long measure = 2000;
+    for (String arg : args) {
+      if (arg.startsWith("--sizes-mb=")) {
+        sizesMb = Arrays.stream(arg.substring("--sizes-mb=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Long.parseLong(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    MicroBench bench = new MicroBench(warmup, measure);
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+    System.out.println("parallelism " + pool.getParallelism());
+    System.out.println(MicroBench.Result.header());
+    for (int sizeMb : sizesMb) {
+      long size = (long) sizeMb << 20;
+      String input = PATTERN.repeat((int) (size / PATTERN.length()));
+      System.out.println(bench.run("string sequential", size, input, BracketValidator::firstImbalance));
+      System.out.println(bench.run("string parallel", size, input,
+          s -> BracketValidator.hasBalancedParenthesesParallel(s, pool)));
+
+      Path file = Files.createTempFile("brackets", ".txt");
+      try {
+        Files.writeString(file, input);
+        input = null;
+        System.out.println(bench.run("file sequential", size, file, f -> {
+          try {
+            return BracketValidator.firstImbalance(f);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }));
+        System.out.println(bench.run("file parallel", size, file, f -> {
+          try {
+            return BracketValidator.hasBalancedParenthesesParallel(f, pool);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }));
+      } finally {
+        Files.delete(file);
+      }
+    }
+  }
+}
@@ -0,0 +1,161 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class BracketValidatorTest {
+
+    // ----------------------------------------------------------------------
+    // hasBalancedParentheses(CharSequence input)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testCharSequenceBalanced() {
+        assertTrue(BracketValidator.hasBalancedParentheses(new StringBuilder("(()())")));
+        assertTrue(BracketValidator.hasBalancedParentheses(new StringBuilder("")));
+        assertTrue(BracketValidator.hasBalancedParentheses(new StringBuilder("a(b)c")));
+    }
+
+    @Test
+    void testCharSequenceUnbalanced() {
+        assertFalse(BracketValidator.hasBalancedParentheses(new StringBuilder("(()")));
+        assertFalse(BracketValidator.hasBalancedParentheses(new StringBuilder("())")));
+        assertFalse(BracketValidator.hasBalancedParentheses(new StringBuilder(")(")));
+    }
+
+    @Test
+    void testCharSequenceNull() {
+        assertThrows(IllegalArgumentException.class, () -> BracketValidator.hasBalancedParentheses((CharSequence) null));
+    }
+
+    // ----------------------------------------------------------------------
+    // firstImbalance(...)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testFirstImbalanceUnmatchedClose() {
+        assertEquals(2, BracketValidator.firstImbalance("())()"));
+        assertEquals(0, BracketValidator.firstImbalance(")("));
+    }
+
+    @Test
+    void testFirstImbalanceUnclosedOpen() {
+        // The '(' at 0 is closed at 3; the '(' at 4 is never closed.
+        assertEquals(4, BracketValidator.firstImbalance("(())((()"));
+        assertEquals(0, BracketValidator.firstImbalance("(()"));
+    }
+
+    @Test
+    void testFirstImbalanceBalanced() {
+        assertEquals(BracketValidator.BALANCED, BracketValidator.firstImbalance("(x(y)z)"));
+    }
+
+    // ----------------------------------------------------------------------
+    // Reader and file inputs
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testReaderAcrossBufferBoundaries() throws IOException {
+        String input = "(".repeat(10_000) + ")".repeat(10_000) + ")";
+        assertEquals(20_000, BracketValidator.firstImbalance(new StringReader(input)));
+        assertTrue(BracketValidator.hasBalancedParentheses(new StringReader(input.substring(0, 20_000))));
+    }
+
+    @Test
+    void testReaderNull() {
+        assertThrows(IllegalArgumentException.class, () -> BracketValidator.hasBalancedParentheses((Reader) null));
+    }
+
+    @Test
+    void testFileReportsByteOffset(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("expr.txt");
+        // U+00E9 is two bytes in UTF-8, so the stray ')' is at byte 4 but char 3.
+        Files.write(file, "(\u00e9))".getBytes(StandardCharsets.UTF_8));
+        assertEquals(4, BracketValidator.firstImbalance(file));
+
+        Files.write(file, "((x))".getBytes(StandardCharsets.UTF_8));
+        assertTrue(BracketValidator.hasBalancedParentheses(file));
+
+        Files.write(file, new byte[0]);
+        assertTrue(BracketValidator.hasBalancedParentheses(file));
+    }
+
+    @Test
+    void testFileNull() {
+        assertThrows(IllegalArgumentException.class, () -> BracketValidator.hasBalancedParentheses((Path) null));
+    }
+
+    // ----------------------------------------------------------------------
+    // hasBalancedParenthesesParallel(...)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testParallelMatchesSequentialOnRandomInputs() {
+        Random random = new Random(21);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 40; trial++) {
+                String input = randomBrackets(random, random.nextInt(300_000));
+                assertEquals(BracketValidator.hasBalancedParentheses(input),
+                    BracketValidator.hasBalancedParenthesesParallel(input, pool), "trial " + trial);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelDetectsDipAcrossChunks() {
+        // Balanced overall, but the depth goes negative right after the first 100k chars.
+        String input = "()".repeat(50_000) + ")" + "x".repeat(200_000) + "(";
+        assertFalse(BracketValidator.hasBalancedParenthesesParallel(input));
+        assertTrue(BracketValidator.hasBalancedParenthesesParallel("(".repeat(150_000) + ")".repeat(150_000)));
+    }
+
+    @Test
+    void testParallelFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("big.txt");
+        String input = "(".repeat(1_500_000) + ")".repeat(1_500_000);
+        Files.write(file, input.getBytes(StandardCharsets.US_ASCII));
+        assertTrue(BracketValidator.hasBalancedParenthesesParallel(file, ForkJoinPool.commonPool()));
+
+        Files.write(file, (")" + input + "(").getBytes(StandardCharsets.US_ASCII));
+        assertFalse(BracketValidator.hasBalancedParenthesesParallel(file, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void testParallelNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> BracketValidator.hasBalancedParenthesesParallel((CharSequence) null));
+        assertThrows(IllegalArgumentException.class, () -> BracketValidator.hasBalancedParenthesesParallel("()", null));
+    }
+
+    // Mostly balanced brackets with a small chance of a stray character, so both outcomes occur.
+    private static String randomBrackets(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        int depth = 0;
+        boolean stray = random.nextInt(3) == 0;
+        for (int i = 0; i < length; i++) {
+            if (depth > 0 && (random.nextBoolean() || length - i <= depth)) {
+                builder.append(')');
+                depth--;
+            } else if (length - i > depth + 1) {
+                builder.append('(');
+                depth++;
+            } else {
+                builder.append('x');
+            }
+        }
+        if (stray && length > 0) {
+            builder.setCharAt(random.nextInt(length), random.nextBoolean() ? '(' : ')');
+        }
+        return builder.toString();
+    }
+}
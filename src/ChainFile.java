@@ -0,0 +1,178 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves {@link SingleNode} and {@link DoubleNode} chains to a compact binary file and loads them back.
+ *
+ * The file is a 16-byte header followed by the node values as packed little-endian ints, head first:
+ * <pre>
+ *   int magic   (0x4C425854, "TXBL" in little-endian byte order)
+ *   int version (1)
+ *   int kind    (1 for a SingleNode chain, 2 for a DoubleNode chain)
+ *   int count   (number of values that follow, at most Integer.MAX_VALUE)
+ *   int[count]  values
+ * </pre>
+ * Saving streams straight from the chain through a small buffer and writes the count last, so the
+ * chain is walked once and no {@code List<Integer>} is built. Loading goes through {@link MappedChain},
+ * which memory-maps the file; {@link #open(Path)} returns it directly for queries that need no nodes.
+ */
+public class ChainFile {
+
+  static final int MAGIC = 0x4C425854;
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 16;
+
+  /**
+   * The kind written for a {@link SingleNode} chain.
+   */
+  public static final int SINGLE = 1;
+
+  /**
+   * The kind written for a {@link DoubleNode} chain.
+   */
+  public static final int DOUBLE = 2;
+
+  private static final int BUFFER_BYTES = 64 * 1024;
+
+  private ChainFile() {
+  }
+
+  /**
+   * Writes a singly linked list to a file, replacing any existing content.
+   *
+   * @param head the head node of the list
+   * @param file the file to write
+   * @throws IllegalArgumentException if head or file is null, or the list is longer than
+   *     Integer.MAX_VALUE nodes; the partly written file is then truncated to zero length
+   * @throws IOException if writing fails
+   */
+  public static void save(SingleNode head, Path file) throws IOException {
+    if (head == null || file == null) {
+      throw new IllegalArgumentException("Head and file cannot be null.");
+    }
+    try (FileChannel channel = openForWrite(file)) {
+      ByteBuffer buffer = startBuffer(SINGLE);
+      long count = 0;
+      for (SingleNode current = head; current != null; current = current.next) {
+        if (count == Integer.MAX_VALUE) {
+          throw tooLong(channel);
+        }
+        buffer = put(channel, buffer, current.data);
+        count++;
+      }
+      finish(channel, buffer, count);
+    }
+  }
+
+  /**
+   * Writes a doubly linked list to a file, replacing any existing content. The list is saved from
+   * the given node forward.
+   *
+   * @param head the head node of the list
+   * @param file the file to write
+   * @throws IllegalArgumentException if head or file is null, or the list is longer than
+   *     Integer.MAX_VALUE nodes; the partly written file is then truncated to zero length
+   * @throws IOException if writing fails
+   */
+  public static void save(DoubleNode head, Path file) throws IOException {
+    if (head == null || file == null) {
+      throw new IllegalArgumentException("Head and file cannot be null.");
+    }
+    try (FileChannel channel = openForWrite(file)) {
+      ByteBuffer buffer = startBuffer(DOUBLE);
+      long count = 0;
+      for (DoubleNode current = head; current != null; current = current.next) {
+        if (count == Integer.MAX_VALUE) {
+          throw tooLong(channel);
+        }
+        buffer = put(channel, buffer, current.data);
+        count++;
+      }
+      finish(channel, buffer, count);
+    }
+  }
+
+  /**
+   * Memory-maps a chain file for read-only queries without building any nodes.
+   *
+   * @param file the file to open
+   * @return a read-only view of the saved values
+   * @throws IllegalArgumentException if file is null
+   * @throws IOException if the file cannot be read or is not a valid chain file
+   */
+  public static MappedChain open(Path file) throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("File cannot be null.");
+    }
+    return new MappedChain(file);
+  }
+
+  /**
+   * Loads a file as a singly linked list. Files saved from either node type can be loaded.
+   *
+   * @param file the file to read
+   * @return the head node of the loaded list
+   * @throws IllegalArgumentException if file is null
+   * @throws IOException if the file cannot be read or is not a valid chain file
+   */
+  public static SingleNode loadSingle(Path file) throws IOException {
+    return open(file).toSingleNode();
+  }
+
+  /**
+   * Loads a file as a doubly linked list. Files saved from either node type can be loaded.
+   *
+   * @param file the file to read
+   * @return the head node of the loaded list
+   * @throws IllegalArgumentException if file is null
+   * @throws IOException if the file cannot be read or is not a valid chain file
+   */
+  public static DoubleNode loadDouble(Path file) throws IOException {
+    return open(file).toDoubleNode();
+  }
+
+  private static FileChannel openForWrite(Path file) throws IOException {
+    return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  private static ByteBuffer startBuffer(int kind) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC).putInt(VERSION).putInt(kind).putInt(0);
+    return buffer;
+  }
+
+  private static ByteBuffer put(FileChannel channel, ByteBuffer buffer, int value) throws IOException {
+    if (!buffer.hasRemaining()) {
+      drain(channel, buffer);
+    }
+    return buffer.putInt(value);
+  }
+
+  private static void finish(FileChannel channel, ByteBuffer buffer, long count) throws IOException {
+    drain(channel, buffer);
+    buffer.putInt((int) count).flip();
+    long position = HEADER_BYTES - Integer.BYTES;
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  // The count field is an int, so a longer chain cannot be described; leave no half-written file behind.
+  private static IllegalArgumentException tooLong(FileChannel channel) throws IOException {
+    channel.truncate(0);
+    return new IllegalArgumentException("A chain file holds at most " + Integer.MAX_VALUE + " nodes.");
+  }
+
+  private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+}
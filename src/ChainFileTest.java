@@ -0,0 +1,100 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class ChainFileTest {
+
+    // ----------------------------------------------------------------------
+    // save / load
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testSingleNodeRoundTrip(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("single.bin");
+        List<Integer> values = Arrays.asList(Integer.MIN_VALUE, 101, -87, 0, Integer.MAX_VALUE);
+        ChainFile.save(SingleNode.fromList(values), file);
+        assertEquals(16 + 5 * 4, Files.size(file));
+        assertEquals(values, ChainFile.loadSingle(file).toList());
+    }
+
+    @Test
+    void testDoubleNodeRoundTripLinksPrev(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("double.bin");
+        ChainFile.save(DoubleNode.fromList(List.of(3, 7, 20)), file);
+        DoubleNode head = ChainFile.loadDouble(file);
+        assertEquals(List.of(3, 7, 20), head.toList());
+        assertNull(head.prev);
+        assertSame(head, head.next.prev);
+        assertSame(head.next, head.next.next.prev);
+    }
+
+    @Test
+    void testLargeChainCrossesWriteBuffer(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("large.bin");
+        SingleNode head = SingleNode.fromList(new Random(41).ints(100_000).boxed().collect(Collectors.toList()));
+        ChainFile.save(head, file);
+        assertEquals(head.toList(), ChainFile.loadSingle(file).toList());
+    }
+
+    @Test
+    void testSaveOverwritesLongerFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("reuse.bin");
+        ChainFile.save(SingleNode.fromList(Collections.nCopies(1_000, 7)), file);
+        ChainFile.save(new SingleNode(5), file);
+        assertEquals(List.of(5), ChainFile.loadSingle(file).toList());
+    }
+
+    @Test
+    void testRejectsOtherFiles(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("junk.bin");
+        Files.write(file, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> ChainFile.open(file));
+        Files.write(file, new byte[32]);
+        assertThrows(IOException.class, () -> ChainFile.open(file));
+    }
+
+    @Test
+    void testRejectsUnknownKind(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("kind.bin");
+        ChainFile.save(SingleNode.fromList(List.of(1, 2)), file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[8] = 3;
+        Files.write(file, bytes);
+        IOException e = assertThrows(IOException.class, () -> ChainFile.open(file));
+        assertTrue(e.getMessage().contains("kind 3"));
+    }
+
+    @Test
+    void testNullArguments(@TempDir Path dir) {
+        assertThrows(IllegalArgumentException.class, () -> ChainFile.save((SingleNode) null, dir.resolve("x")));
+        assertThrows(IllegalArgumentException.class, () -> ChainFile.save(new DoubleNode(1), null));
+        assertThrows(IllegalArgumentException.class, () -> ChainFile.open(null));
+    }
+
+    // ----------------------------------------------------------------------
+    // MappedChain queries
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testMappedQueries(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("query.bin");
+        ChainFile.save(SingleNode.fromList(Arrays.asList(5, 12, 5, 3, 5, 12)), file);
+        MappedChain chain = ChainFile.open(file);
+        assertEquals(ChainFile.SINGLE, chain.kind());
+        assertEquals(6, chain.length());
+        assertEquals(3, chain.findNthElement(3));
+        assertEquals(Map.of(5, 3, 12, 2, 3, 1), chain.countOccurrences().toMap());
+        assertThrows(IndexOutOfBoundsException.class, () -> chain.findNthElement(6));
+        assertThrows(IllegalArgumentException.class, () -> chain.findNthElement(-1));
+    }
+}
@@ -0,0 +1,115 @@
+import java.util.Arrays;
+
+/**
+ * Splits a singly linked list into consecutive segments of roughly equal length so the
+ * segments can be processed by different threads.
+ *
+ * The split points are recorded in a single walk of the chain without knowing its length up front:
+ * every {@code stride}-th node is sampled, and whenever the sample buffer fills up every other sample
+ * is dropped and the stride doubles. The result is between {@code maxSegments / 2} and
+ * {@code maxSegments} segments (fewer for short chains), all of the same length except the last.
+ *
+ * A ChainSegments describes the chain as it was when it was built; it must be rebuilt after
+ * the chain is changed.
+ */
+public class ChainSegments {
+
+  private final SingleNode[] starts;
+  private final long stride;
+  private final long totalLength;
+
+  private ChainSegments(SingleNode[] starts, long stride, long totalLength) {
+    this.starts = starts;
+    this.stride = stride;
+    this.totalLength = totalLength;
+  }
+
+  /**
+   * Records the split points of a chain in one pass.
+   *
+   * @param head the head node of the singly linked list
+   * @param maxSegments the largest number of segments to produce
+   * @return the segments of the chain
+   * @throws IllegalArgumentException if the head is null or maxSegments is less than 1
+   */
+  public static ChainSegments of(SingleNode head, int maxSegments) {
+    if (head == null || maxSegments < 1) {
+      throw new IllegalArgumentException("Head cannot be null and maxSegments must be positive.");
+    }
+    // An even buffer size keeps the halving step exact.
+    SingleNode[] samples = new SingleNode[Math.max(2, maxSegments + (maxSegments & 1))];
+    int count = 0;
+    // Doubles past 2^31 on chains longer than Integer.MAX_VALUE nodes, so it must be a long.
+    long stride = 1;
+    long length = 0;
+    for (SingleNode current = head; current != null; current = current.next) {
+      if (length % stride == 0) {
+        if (count == samples.length) {
+          for (int i = 0; i < count / 2; i++) {
+            samples[i] = samples[i * 2];
+          }
+          count /= 2;
+          stride *= 2;
+        }
+        samples[count++] = current;
+      }
+      length++;
+    }
+    if (count > maxSegments) {
+      // Only possible when maxSegments is odd; merge the last two samples' segments.
+      count = maxSegments;
+    }
+    return new ChainSegments(Arrays.copyOf(samples, count), stride, length);
+  }
+
+  /**
+   * Returns the number of segments.
+   *
+   * @return the segment count, at least 1
+   */
+  public int count() {
+    return starts.length;
+  }
+
+  /**
+   * Returns the first node of a segment.
+   *
+   * @param segment the segment index
+   * @return the segment's first node
+   * @throws IllegalArgumentException if segment is out of range
+   */
+  public SingleNode start(int segment) {
+    checkSegment(segment);
+    return starts[segment];
+  }
+
+  /**
+   * Returns the number of nodes in a segment.
+   *
+   * @param segment the segment index
+   * @return the segment's length
+   * @throws IllegalArgumentException if segment is out of range
+   */
+  public long length(int segment) {
+    checkSegment(segment);
+    if (segment < starts.length - 1) {
+      return stride;
+    }
+    return totalLength - stride * segment;
+  }
+
+  /**
+   * Returns the number of nodes in the whole chain.
+   *
+   * @return the chain length
+   */
+  public long totalLength() {
+    return totalLength;
+  }
+
+  private void checkSegment(int segment) {
+    if (segment < 0 || segment >= starts.length) {
+      throw new IllegalArgumentException("Invalid segment: " + segment);
+    }
+  }
+}
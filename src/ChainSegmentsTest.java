@@ -0,0 +1,55 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ChainSegmentsTest {
+
+    // ----------------------------------------------------------------------
+    // of(SingleNode head, int maxSegments)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testSegmentsCoverChainInOrder() {
+        for (int length : new int[] {1, 2, 3, 7, 64, 1000, 1023}) {
+            for (int maxSegments : new int[] {1, 2, 3, 5, 8}) {
+                SingleNode head = SingleNode.fromList(range(length));
+                ChainSegments segments = ChainSegments.of(head, maxSegments);
+
+                assertTrue(segments.count() >= 1 && segments.count() <= maxSegments);
+                assertEquals(length, segments.totalLength());
+
+                int expected = 0;
+                for (int s = 0; s < segments.count(); s++) {
+                    assertEquals(expected, segments.start(s).data, "segment " + s);
+                    assertTrue(segments.length(s) > 0);
+                    expected += (int) segments.length(s);
+                }
+                assertEquals(length, expected);
+            }
+        }
+    }
+
+    @Test
+    void testLongChainUsesAtLeastHalfTheSegments() {
+        ChainSegments segments = ChainSegments.of(SingleNode.fromList(range(10_000)), 16);
+        assertTrue(segments.count() >= 8, "count " + segments.count());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ChainSegments.of(null, 4));
+        assertThrows(IllegalArgumentException.class, () -> ChainSegments.of(new SingleNode(1), 0));
+        ChainSegments segments = ChainSegments.of(new SingleNode(1), 4);
+        assertThrows(IllegalArgumentException.class, () -> segments.start(1));
+    }
+
+    private static List<Integer> range(int length) {
+        Integer[] values = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = i;
+        }
+        return Arrays.asList(values);
+    }
+}
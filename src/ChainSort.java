@@ -0,0 +1,188 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sorts singly linked lists by relinking their existing nodes, without copying values into a
+ * {@code List<Integer>} and back.
+ *
+ * {@link #sort(SingleNode)} is a bottom-up merge sort. It takes nodes off the front of the chain one at a
+ * time and keeps sorted runs of 1, 2, 4, ... nodes in a fixed table of 64 slots, merging equal-sized runs
+ * as they meet, the way binary addition carries. It makes a single pass over the input, allocates one small
+ * array regardless of length, and is stable: nodes with equal values keep their original order. Once the
+ * chain is much larger than the CPU caches, every merge step waits on a cache miss for the next node, so
+ * copying into an array and sorting there can finish sooner; this sort still allocates nothing.
+ *
+ * The parallel variants split the chain with {@link ChainSegments}, sort every segment on a
+ * {@link ForkJoinPool} and merge sorted segments pairwise. The final merge walks the whole chain on one
+ * thread, which bounds the speedup for very long chains.
+ */
+public class ChainSort {
+
+  // Several segments per thread lets work stealing even out uneven segment costs.
+  private static final int SEGMENTS_PER_THREAD = 4;
+  // Runs in slot i hold 2^i nodes, so 64 slots cover any chain that fits in memory.
+  private static final int SLOTS = 64;
+
+  private ChainSort() {
+  }
+
+  /**
+   * Sorts a linked list into ascending order by relinking its nodes.
+   *
+   * @param head the head of the list
+   * @return the head of the sorted list, which is one of the original nodes
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static SingleNode sort(SingleNode head) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    return sortChain(head);
+  }
+
+  /**
+   * Sorts a linked list using the common fork-join pool.
+   *
+   * @param head the head of the list
+   * @return the head of the sorted list
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static SingleNode sortParallel(SingleNode head) {
+    return sortParallel(head, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Sorts a linked list on the given pool.
+   * The chain is walked once on the calling thread to find the split points.
+   *
+   * @param head the head of the list
+   * @param pool the pool to sort the segments on
+   * @return the head of the sorted list
+   * @throws IllegalArgumentException if the head or pool is null
+   */
+  public static SingleNode sortParallel(SingleNode head, ForkJoinPool pool) {
+    if (head == null || pool == null) {
+      throw new IllegalArgumentException("Head and pool cannot be null.");
+    }
+    ChainSegments segments = ChainSegments.of(head, pool.getParallelism() * SEGMENTS_PER_THREAD);
+    if (segments.count() == 1) {
+      return sortChain(head);
+    }
+    return pool.invoke(new SegmentSort(segments, 0, segments.count()));
+  }
+
+  /**
+   * Merges two sorted linked lists into one sorted list by relinking their nodes. When values are equal,
+   * nodes from first come before nodes from second.
+   *
+   * @param first the head of the first sorted list
+   * @param second the head of the second sorted list
+   * @return the head of the merged list
+   * @throws IllegalArgumentException if either head is null
+   */
+  public static SingleNode merge(SingleNode first, SingleNode second) {
+    if (first == null || second == null) {
+      throw new IllegalArgumentException("Heads cannot be null.");
+    }
+    return mergeChains(first, second);
+  }
+
+  private static SingleNode sortChain(SingleNode head) {
+    SingleNode[] slots = new SingleNode[SLOTS];
+    int used = 0;
+    while (head != null) {
+      SingleNode run = head;
+      head = head.next;
+      run.next = null;
+      int slot = 0;
+      // Runs in the slots hold earlier nodes than run, so they go first to keep the sort stable.
+      while (slot < used && slots[slot] != null) {
+        run = mergeChains(slots[slot], run);
+        slots[slot] = null;
+        slot++;
+      }
+      if (slot == used) {
+        used++;
+      }
+      slots[slot] = run;
+    }
+    // Higher slots hold earlier nodes.
+    SingleNode result = null;
+    for (int slot = 0; slot < used; slot++) {
+      if (slots[slot] != null) {
+        result = result == null ? slots[slot] : mergeChains(slots[slot], result);
+      }
+    }
+    return result;
+  }
+
+  // Either head may be null. Takes from second only when its value is strictly smaller, for stability.
+  private static SingleNode mergeChains(SingleNode first, SingleNode second) {
+    if (first == null) {
+      return second;
+    }
+    if (second == null) {
+      return first;
+    }
+    SingleNode head;
+    if (second.data < first.data) {
+      head = second;
+      second = second.next;
+    } else {
+      head = first;
+      first = first.next;
+    }
+    SingleNode tail = head;
+    while (first != null && second != null) {
+      if (second.data < first.data) {
+        tail.next = second;
+        tail = second;
+        second = second.next;
+      } else {
+        tail.next = first;
+        tail = first;
+        first = first.next;
+      }
+    }
+    tail.next = first != null ? first : second;
+    return head;
+  }
+
+  private static class SegmentSort extends RecursiveTask<SingleNode> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ChainSegments segments;
+    private final int from;
+    private final int to;
+
+    SegmentSort(ChainSegments segments, int from, int to) {
+      this.segments = segments;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected SingleNode compute() {
+      if (to - from == 1) {
+        return sortSegment(from);
+      }
+      int middle = (from + to) >>> 1;
+      SegmentSort left = new SegmentSort(segments, from, middle);
+      left.fork();
+      SingleNode right = new SegmentSort(segments, middle, to).compute();
+      return mergeChains(left.join(), right);
+    }
+
+    // Cuts the segment off from the next one, which only this task touches, then sorts it.
+    private SingleNode sortSegment(int segment) {
+      SingleNode start = segments.start(segment);
+      SingleNode last = start;
+      for (long i = segments.length(segment) - 1; i > 0; i--) {
+        last = last.next;
+      }
+      last.next = null;
+      return sortChain(start);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares sorting a chain in place with {@link ChainSort} against copying it through a
+ * {@code List<Integer>}, through {@link MicroBench}.
+ *
+ * Usage: {@code java ChainSortBenchmark [--sizes=100000,1000000] [--warmup=ms] [--measure=ms]}
+ *
+ * Sorting consumes its input, so every invocation rebuilds the chain in the untimed setup step. The
+ * "copy" row runs {@code toList()}, {@code Collections.sort} and {@code fromList}, and its B/op column
+ * shows the boxed copies it allocates. The parallel rows run {@link ChainSort#sortParallel(SingleNode,
+ * ForkJoinPool)}, including its sequential split pass, on pools of 1, 2, 4, ... threads up to the number
+ * of available processors.
+ */
+public class ChainSortBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {100_000, 1_000_000, 10_000_000};
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    long warmup = 500;
+    long measure = 1000;
+    for (String arg : args) {
+      if (arg.startsWith("--sizes=")) {
+        sizes = Arrays.stream(arg.substring("--sizes=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Long.parseLong(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    MicroBench bench = new MicroBench(warmup, measure);
+    System.out.println(MicroBench.Result.header());
+    for (int size : sizes) {
+      int[] values = ToolboxBenchmark.values(size);
+      System.out.println(bench.runWithSetup("copy + Collections.sort", size,
+          () -> ToolboxBenchmark.singleChain(values), head -> {
+            List<Integer> list = new ArrayList<>(head.toList());
+            Collections.sort(list);
+            return SingleNode.fromList(list);
+          }));
+      System.out.println(bench.runWithSetup("in-place merge sort", size,
+          () -> ToolboxBenchmark.singleChain(values), ChainSort::sort));
+      for (int threads : threadCounts()) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+          System.out.println(bench.runWithSetup("parallel p" + threads, size,
+              () -> ToolboxBenchmark.singleChain(values), head -> ChainSort.sortParallel(head, pool)));
+        } finally {
+          pool.shutdown();
+        }
+      }
+    }
+  }
+
+  private static int[] threadCounts() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    int[] counts = new int[32 - Integer.numberOfLeadingZeros(processors) + 1];
+    int n = 0;
+    for (int threads = 1; threads < processors; threads *= 2) {
+      counts[n++] = threads;
+    }
+    counts[n++] = processors;
+    return Arrays.copyOf(counts, n);
+  }
+}
@@ -0,0 +1,121 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ChainSortTest {
+
+    // ----------------------------------------------------------------------
+    // sort(SingleNode head)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testSort() {
+        SingleNode head = ChainSort.sort(SingleNode.fromList(Arrays.asList(5, -3, 12, 0, 5, Integer.MIN_VALUE, 7)));
+        assertEquals(List.of(Integer.MIN_VALUE, -3, 0, 5, 5, 7, 12), head.toList());
+    }
+
+    @Test
+    void testSortSingleNode() {
+        SingleNode node = new SingleNode(4);
+        assertSame(node, ChainSort.sort(node));
+        assertNull(node.next);
+    }
+
+    @Test
+    void testSortMatchesCollectionsSort() {
+        Random random = new Random(25);
+        for (int round = 0; round < 200; round++) {
+            int[] values = random.ints(1 + random.nextInt(1_000), -50, 50).toArray();
+            List<Integer> expected = new ArrayList<>(SingleNode.fromArray(values).toList());
+            Collections.sort(expected);
+            assertEquals(expected, ChainSort.sort(SingleNode.fromArray(values)).toList());
+        }
+    }
+
+    @Test
+    void testSortIsStableAndReusesNodes() {
+        int[] values = new Random(3).ints(5_000, 0, 10).toArray();
+        SingleNode[] nodes = new SingleNode[values.length];
+        SingleNode head = SingleNode.fromArray(values);
+        IdentityHashMap<SingleNode, Integer> position = new IdentityHashMap<>();
+        int i = 0;
+        for (SingleNode current = head; current != null; current = current.next) {
+            nodes[i] = current;
+            position.put(current, i++);
+        }
+
+        SingleNode sorted = ChainSort.sort(head);
+        int count = 0;
+        SingleNode previous = null;
+        for (SingleNode current = sorted; current != null; current = current.next) {
+            assertTrue(position.containsKey(current));
+            if (previous != null) {
+                assertTrue(previous.data <= current.data);
+                if (previous.data == current.data) {
+                    assertTrue(position.get(previous) < position.get(current));
+                }
+            }
+            previous = current;
+            count++;
+        }
+        assertEquals(nodes.length, count);
+    }
+
+    // ----------------------------------------------------------------------
+    // sortParallel
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testParallelMatchesSequential() {
+        Random random = new Random(52);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int round = 0; round < 100; round++) {
+                int[] values = random.ints(1 + random.nextInt(5_000), 0, 100).toArray();
+                List<Integer> expected = ChainSort.sort(SingleNode.fromArray(values)).toList();
+                assertEquals(expected, ChainSort.sortParallel(SingleNode.fromArray(values), pool).toList());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelLongChain() {
+        int[] values = new Random(92).ints(200_000, 0, 1024).toArray();
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, ChainSort.sortParallel(SingleNode.fromArray(values)).toIntArray());
+    }
+
+    // ----------------------------------------------------------------------
+    // merge(SingleNode first, SingleNode second)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testMerge() {
+        SingleNode first = SingleNode.fromList(Arrays.asList(1, 4, 4, 9));
+        SingleNode second = SingleNode.fromList(Arrays.asList(0, 4, 10, 11));
+        SingleNode secondFour = second.next;
+        SingleNode merged = ChainSort.merge(first, second);
+        assertEquals(List.of(0, 1, 4, 4, 4, 9, 10, 11), merged.toList());
+        // Equal values from the first list come first.
+        assertSame(secondFour, merged.next.next.next.next);
+    }
+
+    @Test
+    void testNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ChainSort.sort(null));
+        assertThrows(IllegalArgumentException.class, () -> ChainSort.sortParallel(null));
+        assertThrows(IllegalArgumentException.class, () -> ChainSort.sortParallel(new SingleNode(1), null));
+        assertThrows(IllegalArgumentException.class, () -> ChainSort.merge(new SingleNode(1), null));
+        assertThrows(IllegalArgumentException.class, () -> ChainSort.merge(null, new SingleNode(1)));
+    }
+}
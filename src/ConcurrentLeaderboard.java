@@ -0,0 +1,173 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A score table that many threads can add to at once while others ask for the leader, the concurrent
+ * counterpart of {@link TopScorerIndex}.
+ *
+ * Each player's score is an {@link AtomicLong} in a {@link ConcurrentHashMap}, so writers to different
+ * players never contend and writers to the same player only race on one compare-and-set. The current
+ * leader is an immutable record published through an {@link AtomicReference}: after every update the
+ * writer offers its player's score and replaces the record if it wins, with the lexicographically smallest
+ * name winning a tie exactly as in {@link Toolbox#topScorer(java.util.Map)}. {@link #topScorer()} only
+ * reads that reference, so readers never block or slow down writers.
+ *
+ * Lowering the leader's score makes the record stale. The next writer to notice rescans every score to
+ * find the new leader, so workloads where the leader often loses points pay O(n) per such update. While
+ * updates are in flight {@link #topScorer()} returns the leader of a recent state; once they stop it
+ * returns the exact leader.
+ */
+public class ConcurrentLeaderboard {
+
+  private static final class Leader {
+    final String name;
+    final AtomicLong counter;
+    final long score;
+
+    Leader(String name, AtomicLong counter, long score) {
+      this.name = name;
+      this.counter = counter;
+      this.score = score;
+    }
+
+    // The player's score has dropped below the one recorded, so someone else may now lead.
+    boolean isStale() {
+      return counter.get() < score;
+    }
+  }
+
+  private final ConcurrentHashMap<String, AtomicLong> scores = new ConcurrentHashMap<>();
+  private final AtomicReference<Leader> leader = new AtomicReference<>();
+
+  /**
+   * Constructs an empty leaderboard.
+   */
+  public ConcurrentLeaderboard() {
+  }
+
+  /**
+   * Constructs a leaderboard holding the given scores.
+   *
+   * @param initial the initial scores, keyed by player name
+   * @throws IllegalArgumentException if initial is null or contains a null name or score
+   */
+  public ConcurrentLeaderboard(Map<String, Integer> initial) {
+    if (initial == null) {
+      throw new IllegalArgumentException("Scores cannot be null.");
+    }
+    for (Map.Entry<String, Integer> score : initial.entrySet()) {
+      if (score.getValue() == null) {
+        throw new IllegalArgumentException("Scores cannot contain null values.");
+      }
+      add(score.getKey(), score.getValue());
+    }
+  }
+
+  /**
+   * Adds delta to a player's score, treating an unknown player as having 0. Safe to call from any
+   * number of threads.
+   *
+   * @param name the player's name
+   * @param delta the amount to add, which may be negative
+   * @return the player's score right after this update
+   * @throws IllegalArgumentException if name is null
+   */
+  public long add(String name, long delta) {
+    if (name == null) {
+      throw new IllegalArgumentException("Name cannot be null.");
+    }
+    AtomicLong counter = scores.get(name);
+    if (counter == null) {
+      counter = scores.computeIfAbsent(name, key -> new AtomicLong());
+    }
+    long score = counter.addAndGet(delta);
+    publish(name, counter);
+    return score;
+  }
+
+  /**
+   * Returns a player's current score.
+   *
+   * @param name the player's name
+   * @return the score, or null if the player is unknown
+   */
+  public Long score(String name) {
+    AtomicLong counter = name == null ? null : scores.get(name);
+    return counter == null ? null : counter.get();
+  }
+
+  /**
+   * Returns the number of players.
+   *
+   * @return the number of players
+   */
+  public int size() {
+    return scores.size();
+  }
+
+  /**
+   * Returns the player with the highest score, or the first player lexicographically if there is a tie.
+   * Runs in O(1) and never blocks.
+   *
+   * @return the top scorer
+   * @throws IllegalStateException if no scores have been recorded
+   */
+  public String topScorer() {
+    Leader current = leader.get();
+    if (current == null) {
+      throw new IllegalStateException("No scores have been recorded.");
+    }
+    return current.name;
+  }
+
+  /**
+   * Copies the current scores. Scores updated during the copy may or may not be included.
+   *
+   * @return a map of player names to scores
+   */
+  public Map<String, Long> snapshot() {
+    Map<String, Long> copy = new HashMap<>(scores.size() * 2);
+    scores.forEach((name, counter) -> copy.put(name, counter.get()));
+    return copy;
+  }
+
+  // Loops until the published leader is neither stale nor beaten by this player's current score. Every
+  // record is checked again after it is installed, so a decrement that races with the install is seen
+  // either here or by the decrementing thread's own call.
+  private void publish(String name, AtomicLong counter) {
+    while (true) {
+      Leader current = leader.get();
+      if (current != null && current.isStale()) {
+        rescan(current);
+        continue;
+      }
+      long score = counter.get();
+      if (current != null && !beats(name, score, current.name, current.score)) {
+        return;
+      }
+      leader.compareAndSet(current, new Leader(name, counter, score));
+    }
+  }
+
+  private void rescan(Leader expected) {
+    String bestName = null;
+    AtomicLong bestCounter = null;
+    long bestScore = 0;
+    for (Map.Entry<String, AtomicLong> entry : scores.entrySet()) {
+      long score = entry.getValue().get();
+      if (bestName == null || beats(entry.getKey(), score, bestName, bestScore)) {
+        bestName = entry.getKey();
+        bestCounter = entry.getValue();
+        bestScore = score;
+      }
+    }
+    leader.compareAndSet(expected, new Leader(bestName, bestCounter, bestScore));
+  }
+
+  private static boolean beats(String name, long score, String otherName, long otherScore) {
+    return score > otherScore || (score == otherScore && name.compareTo(otherName) < 0);
+  }
+}
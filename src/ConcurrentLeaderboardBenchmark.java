@@ -0,0 +1,106 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures update and query throughput of {@link ConcurrentLeaderboard} against a {@link TopScorerIndex}
+ * guarded by one lock.
+ *
+ * Usage: {@code java ConcurrentLeaderboardBenchmark [--threads=1,8,64] [--players=n] [--measure=ms]}
+ *
+ * Each step adds a random delta to a random player and then asks for the top scorer, mirroring a
+ * service where writers and readers are the same request threads. About one delta in ten is negative,
+ * which is what makes the leader go stale and forces rescans. The ops/s column only shows scaling when
+ * the machine has as many cores as threads; beyond that it shows how much each variant loses to
+ * contention and context switches.
+ */
+public class ConcurrentLeaderboardBenchmark {
+
+  private interface Worker {
+    void step(String player, long delta);
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    int[] threadCounts = {1, 8, 64};
+    int players = 1_000;
+    long measure = 1000;
+    for (String arg : args) {
+      if (arg.startsWith("--threads=")) {
+        threadCounts = Arrays.stream(arg.substring("--threads=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--players=")) {
+        players = Integer.parseInt(arg.substring("--players=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    String[] names = new String[players];
+    for (int i = 0; i < players; i++) {
+      names[i] = "player" + i;
+    }
+
+    System.out.printf("%-24s %8s %16s%n", "variant", "threads", "ops/s");
+    for (int threads : threadCounts) {
+      ConcurrentLeaderboard board = new ConcurrentLeaderboard();
+      report("lock-free leaderboard", threads, measure, names, (player, delta) -> {
+        board.add(player, delta);
+        board.topScorer();
+      });
+
+      TopScorerIndex index = new TopScorerIndex();
+      report("synchronized index", threads, measure, names, (player, delta) -> {
+        synchronized (index) {
+          index.increment(player, (int) delta);
+          index.topScorer();
+        }
+      });
+    }
+  }
+
+  private static void report(String name, int threads, long measureMillis, String[] names, Worker worker)
+      throws InterruptedException {
+    // A short untimed run lets the JIT compile the loop before the measured one.
+    run(threads, Math.max(measureMillis / 4, 50), names, worker);
+    long ops = run(threads, measureMillis, names, worker);
+    System.out.printf("%-24s %8d %16.0f%n", name, threads, ops * 1000.0 / measureMillis);
+  }
+
+  private static long run(int threads, long millis, String[] names, Worker worker) throws InterruptedException {
+    AtomicBoolean stop = new AtomicBoolean();
+    LongAdder ops = new LongAdder();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> workers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long i = 0;
+        while (!stop.get()) {
+          worker.step(names[random.nextInt(names.length)], random.nextInt(10) - 1);
+          i++;
+        }
+        ops.add(i);
+      });
+      workers.add(thread);
+      thread.start();
+    }
+    start.countDown();
+    Thread.sleep(millis);
+    stop.set(true);
+    for (Thread running : workers) {
+      running.join();
+    }
+    return ops.sum();
+  }
+}
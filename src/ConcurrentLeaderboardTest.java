@@ -0,0 +1,128 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+public class ConcurrentLeaderboardTest {
+
+    // ----------------------------------------------------------------------
+    // single-threaded behavior
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testEmptyLeaderboardHasNoTopScorer() {
+        ConcurrentLeaderboard board = new ConcurrentLeaderboard();
+        assertThrows(IllegalStateException.class, board::topScorer);
+        assertEquals(0, board.size());
+        assertNull(board.score("nobody"));
+    }
+
+    @Test
+    void testInitialScoresAndTieBreak() {
+        ConcurrentLeaderboard board = new ConcurrentLeaderboard(Map.of("bob", 10, "alice", 10, "carol", 3));
+        assertEquals("alice", board.topScorer());
+        assertEquals(13, board.add("carol", 10));
+        assertEquals("carol", board.topScorer());
+        assertEquals(Long.valueOf(10), board.score("bob"));
+        assertEquals(3, board.size());
+    }
+
+    @Test
+    void testLeaderLosingPointsRescans() {
+        ConcurrentLeaderboard board = new ConcurrentLeaderboard(Map.of("alice", 50, "bob", 40, "carol", 45));
+        assertEquals("alice", board.topScorer());
+        board.add("alice", -20);
+        assertEquals("carol", board.topScorer());
+        board.add("bob", -100);
+        assertEquals("carol", board.topScorer());
+    }
+
+    @Test
+    void testRandomUpdatesMatchFullScan() {
+        Random random = new Random(24);
+        ConcurrentLeaderboard board = new ConcurrentLeaderboard();
+        for (int step = 0; step < 5_000; step++) {
+            board.add("player" + random.nextInt(50), random.nextInt(21) - 8);
+            assertEquals(leaderOf(board.snapshot()), board.topScorer());
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        ConcurrentLeaderboard board = new ConcurrentLeaderboard();
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLeaderboard(null));
+        assertThrows(IllegalArgumentException.class, () -> board.add(null, 1));
+    }
+
+    // ----------------------------------------------------------------------
+    // concurrent updates
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testConcurrentUpdatesSettleOnExactLeader() throws InterruptedException {
+        int threads = 8;
+        int updates = 20_000;
+        for (int round = 0; round < 5; round++) {
+            ConcurrentLeaderboard board = new ConcurrentLeaderboard();
+            long[] expected = new long[20];
+            long[][] perThread = new long[threads][expected.length];
+            CountDownLatch start = new CountDownLatch(1);
+            ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long[] totals = perThread[t];
+                Random random = new Random(round * 100 + t);
+                workers.add(new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < updates; i++) {
+                            int player = random.nextInt(totals.length);
+                            // Mostly gains with regular losses, so the leader changes and goes stale often.
+                            long delta = random.nextInt(10) - 3;
+                            totals[player] += delta;
+                            board.add("player" + player, delta);
+                            if (i % 16 == 0) {
+                                assertNotNull(board.topScorer());
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                }));
+            }
+            workers.forEach(Thread::start);
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            assertTrue(failures.isEmpty(), () -> failures.peek().toString());
+
+            for (long[] totals : perThread) {
+                for (int p = 0; p < expected.length; p++) {
+                    expected[p] += totals[p];
+                }
+            }
+            Map<String, Long> snapshot = board.snapshot();
+            for (int p = 0; p < expected.length; p++) {
+                assertEquals(expected[p], snapshot.get("player" + p));
+            }
+            assertEquals(leaderOf(snapshot), board.topScorer());
+        }
+    }
+
+    private static String leaderOf(Map<String, Long> scores) {
+        String best = null;
+        for (Map.Entry<String, Long> entry : scores.entrySet()) {
+            long score = entry.getValue();
+            if (best == null || score > scores.get(best) || (score == scores.get(best) && entry.getKey().compareTo(best) < 0)) {
+                best = entry.getKey();
+            }
+        }
+        return best;
+    }
+}
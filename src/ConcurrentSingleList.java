@@ -0,0 +1,176 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.function.IntConsumer;
+
+/**
+ * A lock-free singly linked list of ints that many threads can insert into, remove from and
+ * traverse at the same time.
+ *
+ * Every next reference is an {@link AtomicMarkableReference} and is only changed by compare-and-set,
+ * following Harris's design. Removing a node first sets the mark on the node's own next reference,
+ * which logically deletes it and stops anyone from inserting after it. The node is physically unlinked
+ * later by whichever traversal or insert next passes over it. This is the concurrent counterpart of
+ * {@link Toolbox#insertNode(SingleNode, SingleNode)}, whose plain writes to {@code next} are only safe
+ * on a list owned by a single thread.
+ *
+ * Traversals such as {@link #length()} and {@link #countOccurrences()} are weakly consistent snapshots:
+ * they see every node that was present for the whole traversal and may or may not see nodes inserted or
+ * removed while it runs.
+ */
+public class ConcurrentSingleList {
+
+  /**
+   * A node of a {@link ConcurrentSingleList}. Nodes are created by the list and used as positions.
+   */
+  public static final class Node {
+
+    /**
+     * The integer value stored in this node.
+     */
+    public final int data;
+
+    // The mark is set once this node has been removed; it is never cleared.
+    final AtomicMarkableReference<Node> next;
+
+    Node(int data, Node next) {
+      this.data = data;
+      this.next = new AtomicMarkableReference<>(next, false);
+    }
+
+    /**
+     * Returns whether this node has been removed from its list.
+     *
+     * @return true if the node has been removed
+     */
+    public boolean isRemoved() {
+      return next.isMarked();
+    }
+  }
+
+  // Sentinel before the first real node; it is never removed.
+  private final Node head = new Node(0, null);
+
+  /**
+   * Inserts a value at the front of the list.
+   *
+   * @param value the value to insert
+   * @return the new node
+   */
+  public Node addFirst(int value) {
+    return insertAfter(head, value);
+  }
+
+  /**
+   * Inserts a value directly after node.
+   *
+   * @param node the node after which the value is inserted
+   * @param value the value to insert
+   * @return the new node, or null if node has been removed
+   * @throws IllegalArgumentException if node is null
+   */
+  public Node insertAfter(Node node, int value) {
+    if (node == null) {
+      throw new IllegalArgumentException("Node cannot be null.");
+    }
+    boolean[] marked = new boolean[1];
+    Node inserted = new Node(value, null);
+    while (true) {
+      Node successor = node.next.get(marked);
+      if (marked[0]) {
+        return null;
+      }
+      if (successor != null && successor.isRemoved()) {
+        // Help unlink a removed successor so removed nodes do not pile up behind busy insert points.
+        node.next.compareAndSet(successor, successor.next.getReference(), false, false);
+        continue;
+      }
+      inserted.next.set(successor, false);
+      if (node.next.compareAndSet(successor, inserted, false, false)) {
+        return inserted;
+      }
+    }
+  }
+
+  /**
+   * Removes a node from the list. Only one of several threads removing the same node succeeds.
+   *
+   * @param node the node to remove
+   * @return true if this call removed the node, false if it had already been removed
+   * @throws IllegalArgumentException if node is null
+   */
+  public boolean remove(Node node) {
+    if (node == null) {
+      throw new IllegalArgumentException("Node cannot be null.");
+    }
+    while (true) {
+      Node successor = node.next.getReference();
+      if (node.next.isMarked()) {
+        return false;
+      }
+      if (node.next.attemptMark(successor, true)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Calls the consumer with every value present in the list, front first, unlinking removed nodes
+   * along the way.
+   *
+   * @param consumer the code to run for each value
+   * @throws IllegalArgumentException if consumer is null
+   */
+  public void forEach(IntConsumer consumer) {
+    if (consumer == null) {
+      throw new IllegalArgumentException("Consumer cannot be null.");
+    }
+    boolean[] marked = new boolean[1];
+    Node previous = head;
+    Node current = head.next.getReference();
+    while (current != null) {
+      Node successor = current.next.get(marked);
+      if (marked[0]) {
+        // If this fails, previous changed under us; the node is skipped and left for a later pass.
+        previous.next.compareAndSet(current, successor, false, false);
+      } else {
+        consumer.accept(current.data);
+        previous = current;
+      }
+      current = successor;
+    }
+  }
+
+  /**
+   * Counts the nodes present in the list.
+   *
+   * @return the number of nodes seen by one weakly consistent traversal
+   */
+  public int length() {
+    int[] count = new int[1];
+    forEach(value -> count[0]++);
+    return count[0];
+  }
+
+  /**
+   * Counts the occurrences of values present in the list.
+   *
+   * @return a map where the keys are the values in the list, and the values are the counts of occurrences
+   */
+  public IntIntHashMap countOccurrences() {
+    IntIntHashMap counts = new IntIntHashMap();
+    forEach(value -> counts.addTo(value, 1));
+    return counts;
+  }
+
+  /**
+   * Copies the values present in the list into a Java List.
+   *
+   * @return the values seen by one weakly consistent traversal, front first
+   */
+  public List<Integer> toList() {
+    List<Integer> result = new ArrayList<>();
+    forEach(result::add);
+    return result;
+  }
+}
@@ -0,0 +1,119 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures insert/remove throughput of {@link ConcurrentSingleList} against a {@link SingleList}
+ * guarded by one lock.
+ *
+ * Usage: {@code java ConcurrentSingleListBenchmark [--threads=1,2,4] [--prefill=n] [--measure=ms]}
+ *
+ * Each thread repeatedly inserts a value and then removes the node it inserted. The lock-free list lets
+ * threads work on different nodes at once; the baseline serializes every operation on the lock. Thread
+ * counts default to 1, 2, 4, ... up to the number of available processors, and the ops/s column only
+ * shows scaling when the machine has that many cores.
+ */
+public class ConcurrentSingleListBenchmark {
+
+  private interface Worker {
+    void step(int thread, long i);
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    int[] threadCounts = defaultThreadCounts();
+    int prefill = 1_000;
+    long measure = 1000;
+    for (String arg : args) {
+      if (arg.startsWith("--threads=")) {
+        threadCounts = Arrays.stream(arg.substring("--threads=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--prefill=")) {
+        prefill = Integer.parseInt(arg.substring("--prefill=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    System.out.printf("%-24s %8s %16s%n", "variant", "threads", "ops/s");
+    for (int threads : threadCounts) {
+      ConcurrentSingleList lockFree = new ConcurrentSingleList();
+      for (int i = 0; i < prefill; i++) {
+        lockFree.addFirst(i);
+      }
+      // Each thread inserts after its own anchor, so the threads touch different parts of the list.
+      ConcurrentSingleList.Node[] anchors = new ConcurrentSingleList.Node[threads];
+      for (int t = 0; t < threads; t++) {
+        anchors[t] = lockFree.addFirst(-t);
+      }
+      report("lock-free", threads, measure, (t, i) -> {
+        ConcurrentSingleList.Node node = lockFree.insertAfter(anchors[t], (int) i);
+        lockFree.remove(node);
+      });
+
+      SingleList locked = new SingleList();
+      for (int i = 0; i < prefill; i++) {
+        locked.addFirst(new SingleNode(i));
+      }
+      report("synchronized SingleList", threads, measure, (t, i) -> {
+        synchronized (locked) {
+          locked.addFirst(new SingleNode((int) i));
+          locked.removeFirst();
+        }
+      });
+    }
+  }
+
+  private static void report(String name, int threads, long measureMillis, Worker worker)
+      throws InterruptedException {
+    // A short untimed run lets the JIT compile the loop before the measured one.
+    run(threads, Math.max(measureMillis / 4, 50), worker);
+    long ops = run(threads, measureMillis, worker);
+    System.out.printf("%-24s %8d %16.0f%n", name, threads, ops * 1000.0 / measureMillis);
+  }
+
+  private static long run(int threads, long millis, Worker worker) throws InterruptedException {
+    AtomicBoolean stop = new AtomicBoolean();
+    LongAdder ops = new LongAdder();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> workers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int index = t;
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        long i = 0;
+        while (!stop.get()) {
+          worker.step(index, i++);
+        }
+        ops.add(i);
+      });
+      workers.add(thread);
+      thread.start();
+    }
+    start.countDown();
+    Thread.sleep(millis);
+    stop.set(true);
+    for (Thread running : workers) {
+      running.join();
+    }
+    return ops.sum();
+  }
+
+  private static int[] defaultThreadCounts() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    List<Integer> counts = new ArrayList<>();
+    for (int threads = 1; threads < processors; threads *= 2) {
+      counts.add(threads);
+    }
+    counts.add(processors);
+    return counts.stream().mapToInt(Integer::intValue).toArray();
+  }
+}
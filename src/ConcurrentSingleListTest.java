@@ -0,0 +1,121 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentSingleListTest {
+
+    // ----------------------------------------------------------------------
+    // single-threaded behavior
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testInsertAfterAndRemove() {
+        ConcurrentSingleList list = new ConcurrentSingleList();
+        ConcurrentSingleList.Node one = list.addFirst(1);
+        ConcurrentSingleList.Node three = list.insertAfter(one, 3);
+        list.insertAfter(one, 2);
+        assertEquals(List.of(1, 2, 3), list.toList());
+
+        assertTrue(list.remove(three));
+        assertFalse(list.remove(three));
+        assertTrue(three.isRemoved());
+        assertEquals(List.of(1, 2), list.toList());
+        assertEquals(2, list.length());
+    }
+
+    @Test
+    void testInsertAfterRemovedNodeFails() {
+        ConcurrentSingleList list = new ConcurrentSingleList();
+        ConcurrentSingleList.Node node = list.addFirst(1);
+        list.remove(node);
+        assertNull(list.insertAfter(node, 2));
+        assertEquals(0, list.length());
+    }
+
+    @Test
+    void testCountOccurrences() {
+        ConcurrentSingleList list = new ConcurrentSingleList();
+        for (int value : new int[] {12, 5, 3, 5, 12, 5}) {
+            list.addFirst(value);
+        }
+        assertEquals(Map.of(5, 3, 12, 2, 3, 1), list.countOccurrences().toMap());
+    }
+
+    @Test
+    void testNullArguments() {
+        ConcurrentSingleList list = new ConcurrentSingleList();
+        assertThrows(IllegalArgumentException.class, () -> list.insertAfter(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> list.remove(null));
+        assertThrows(IllegalArgumentException.class, () -> list.forEach(null));
+    }
+
+    // ----------------------------------------------------------------------
+    // concurrent stress
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testConcurrentInsertRemoveAndTraverse() throws InterruptedException {
+        ConcurrentSingleList list = new ConcurrentSingleList();
+        ConcurrentSingleList.Node anchor = list.addFirst(-1);
+        int threads = 8;
+        int operations = 20_000;
+        AtomicInteger inserted = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        ConcurrentLinkedQueue<ConcurrentSingleList.Node> removedNodes = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                    Random random = new Random(seed);
+                    List<ConcurrentSingleList.Node> mine = new ArrayList<>();
+                    for (int i = 0; i < operations; i++) {
+                        int choice = random.nextInt(10);
+                        if (choice < 5 || mine.isEmpty()) {
+                            ConcurrentSingleList.Node after = mine.isEmpty() ? anchor : mine.get(random.nextInt(mine.size()));
+                            ConcurrentSingleList.Node node = list.insertAfter(after, seed);
+                            if (node != null) {
+                                mine.add(node);
+                                inserted.incrementAndGet();
+                            }
+                        } else if (choice < 9) {
+                            ConcurrentSingleList.Node node = mine.remove(random.nextInt(mine.size()));
+                            if (list.remove(node)) {
+                                removed.incrementAndGet();
+                                removedNodes.add(node);
+                            }
+                        } else {
+                            list.length();
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertTrue(failures.isEmpty(), failures.toString());
+        // The anchor plus every surviving insert.
+        assertEquals(1 + inserted.get() - removed.get(), list.length());
+        assertEquals(list.length(), list.countOccurrences().toMap().values().stream().mapToInt(Integer::intValue).sum());
+        for (ConcurrentSingleList.Node node : removedNodes) {
+            assertTrue(node.isRemoved());
+        }
+    }
+}
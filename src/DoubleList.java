@@ -0,0 +1,269 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A doubly linked list whose nodes know which list they belong to, so the head, tail and size can be
+ * found in O(1) from any member node.
+ *
+ * {@link Toolbox#findHead(DoubleNode)} has to walk {@code prev} pointers back to the start because a
+ * {@link DoubleNode} knows nothing but its neighbours. Here every {@link Node} points at its list, and the
+ * list is a ring closed by one sentinel node: the sentinel's {@code next} is the head and its
+ * {@code prev} is the tail. Removing any node, including the first or last, is then the same two
+ * pointer writes, and the head and tail stay correct without special cases. The sentinel is never
+ * returned; {@link Node#next()} and {@link Node#prev()} return null at the ends, as a chain of DoubleNodes
+ * would.
+ */
+public class DoubleList {
+
+  /**
+   * A node of a {@link DoubleList}.
+   */
+  public static final class Node {
+
+    /**
+     * The integer value stored in this node.
+     */
+    public int data;
+
+    private Node next;
+    private Node prev;
+    // Null once the node has been removed.
+    private DoubleList list;
+
+    private Node(int data, DoubleList list) {
+      this.data = data;
+      this.list = list;
+    }
+
+    /**
+     * Returns the following node.
+     *
+     * @return the next node, or null if this is the tail or has been removed
+     */
+    public Node next() {
+      return list == null || next == list.sentinel ? null : next;
+    }
+
+    /**
+     * Returns the preceding node.
+     *
+     * @return the previous node, or null if this is the head or has been removed
+     */
+    public Node prev() {
+      return list == null || prev == list.sentinel ? null : prev;
+    }
+
+    /**
+     * Returns the list this node belongs to.
+     *
+     * @return the owning list, or null if the node has been removed
+     */
+    public DoubleList list() {
+      return list;
+    }
+  }
+
+  private final Node sentinel = new Node(0, this);
+  private int size;
+
+  /**
+   * Constructs an empty list.
+   */
+  public DoubleList() {
+    sentinel.next = sentinel;
+    sentinel.prev = sentinel;
+  }
+
+  /**
+   * Builds a list holding the values of a doubly linked list.
+   *
+   * @param head the head node of the doubly linked list
+   * @return a new list with the same values in the same order
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static DoubleList fromChain(DoubleNode head) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    DoubleList list = new DoubleList();
+    for (DoubleNode current = head; current != null; current = current.next) {
+      list.addLast(current.data);
+    }
+    return list;
+  }
+
+  /**
+   * Builds a chain of {@link DoubleNode}s holding the values of this list.
+   *
+   * @return the head node of the new chain, or null if this list is empty
+   */
+  public DoubleNode toChain() {
+    DoubleNode first = null;
+    DoubleNode last = null;
+    for (Node current = sentinel.next; current != sentinel; current = current.next) {
+      DoubleNode node = new DoubleNode(current.data);
+      if (last == null) {
+        first = node;
+      } else {
+        last.next = node;
+        node.prev = last;
+      }
+      last = node;
+    }
+    return first;
+  }
+
+  /**
+   * Finds the head of the list that a node belongs to in O(1).
+   *
+   * @param node any node of the list
+   * @return the head node of the list
+   * @throws IllegalArgumentException if the node is null or has been removed
+   */
+  public static Node findHead(Node node) {
+    return owner(node).head();
+  }
+
+  /**
+   * Finds the tail of the list that a node belongs to in O(1).
+   *
+   * @param node any node of the list
+   * @return the tail node of the list
+   * @throws IllegalArgumentException if the node is null or has been removed
+   */
+  public static Node findTail(Node node) {
+    return owner(node).tail();
+  }
+
+  /**
+   * Removes a node from the list it belongs to in O(1), updating the list's head, tail and size.
+   *
+   * @param node the node to remove
+   * @throws IllegalArgumentException if the node is null or has already been removed
+   */
+  public static void removeNode(Node node) {
+    owner(node).remove(node);
+  }
+
+  /**
+   * Returns the first node.
+   *
+   * @return the head node, or null if the list is empty
+   */
+  public Node head() {
+    return size == 0 ? null : sentinel.next;
+  }
+
+  /**
+   * Returns the last node.
+   *
+   * @return the tail node, or null if the list is empty
+   */
+  public Node tail() {
+    return size == 0 ? null : sentinel.prev;
+  }
+
+  /**
+   * Returns the number of nodes in O(1).
+   *
+   * @return the number of nodes in the list
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns whether the list has no nodes.
+   *
+   * @return true if the list is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Inserts a value at the front of the list.
+   *
+   * @param value the value to insert
+   * @return the new node
+   */
+  public Node addFirst(int value) {
+    return link(sentinel, value);
+  }
+
+  /**
+   * Appends a value at the end of the list.
+   *
+   * @param value the value to append
+   * @return the new node
+   */
+  public Node addLast(int value) {
+    return link(sentinel.prev, value);
+  }
+
+  /**
+   * Inserts a value directly after node, which must belong to this list.
+   *
+   * @param node the node after which the value is inserted
+   * @param value the value to insert
+   * @return the new node
+   * @throws IllegalArgumentException if the node is null or does not belong to this list
+   */
+  public Node insertAfter(Node node, int value) {
+    checkMember(node);
+    return link(node, value);
+  }
+
+  /**
+   * Removes a node from this list in O(1). The removed node's links are cleared and it no longer
+   * belongs to any list.
+   *
+   * @param node the node to remove
+   * @throws IllegalArgumentException if the node is null or does not belong to this list
+   */
+  public void remove(Node node) {
+    checkMember(node);
+    node.prev.next = node.next;
+    node.next.prev = node.prev;
+    node.next = null;
+    node.prev = null;
+    node.list = null;
+    size--;
+  }
+
+  /**
+   * Converts this list into a Java List.
+   *
+   * @return a list containing the values of the nodes, which is empty if this list is empty
+   */
+  public List<Integer> toList() {
+    List<Integer> result = new ArrayList<>(size);
+    for (Node current = sentinel.next; current != sentinel; current = current.next) {
+      result.add(current.data);
+    }
+    return result;
+  }
+
+  private Node link(Node before, int value) {
+    Node node = new Node(value, this);
+    node.prev = before;
+    node.next = before.next;
+    before.next.prev = node;
+    before.next = node;
+    size++;
+    return node;
+  }
+
+  private void checkMember(Node node) {
+    if (node == null || node.list != this || node == sentinel) {
+      throw new IllegalArgumentException("Node must belong to this list.");
+    }
+  }
+
+  private static DoubleList owner(Node node) {
+    if (node == null || node.list == null) {
+      throw new IllegalArgumentException("Node cannot be null or removed.");
+    }
+    return node.list;
+  }
+}
@@ -0,0 +1,111 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class DoubleListTest {
+
+    // ----------------------------------------------------------------------
+    // construction and O(1) lookups
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testEmptyList() {
+        DoubleList list = new DoubleList();
+        assertTrue(list.isEmpty());
+        assertNull(list.head());
+        assertNull(list.tail());
+        assertNull(list.toChain());
+        assertEquals(List.of(), list.toList());
+    }
+
+    @Test
+    void testChainRoundTrip() {
+        DoubleList list = DoubleList.fromChain(DoubleNode.fromList(List.of(3, 7, 20)));
+        assertEquals(List.of(3, 7, 20), list.toList());
+        assertEquals(List.of(3, 7, 20), list.toChain().toList());
+        assertEquals(3, list.size());
+        assertNull(list.head().prev());
+        assertNull(list.tail().next());
+        assertSame(list.head(), list.tail().prev().prev());
+    }
+
+    @Test
+    void testLookupsFromAnyNode() {
+        DoubleList list = new DoubleList();
+        DoubleList.Node middle = list.addLast(2);
+        DoubleList.Node first = list.addFirst(1);
+        DoubleList.Node last = list.insertAfter(middle, 3);
+        assertSame(first, DoubleList.findHead(middle));
+        assertSame(last, DoubleList.findTail(first));
+        assertSame(list, middle.list());
+        assertEquals(3, middle.list().size());
+    }
+
+    // ----------------------------------------------------------------------
+    // removeNode
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testRemoveEndpointsUpdatesHeadAndTail() {
+        DoubleList list = DoubleList.fromChain(DoubleNode.fromList(List.of(1, 2, 3)));
+        DoubleList.Node head = list.head();
+        DoubleList.Node middle = head.next();
+        DoubleList.removeNode(head);
+        assertSame(middle, list.head());
+        assertNull(middle.prev());
+        assertNull(head.list());
+        assertNull(head.next());
+
+        DoubleList.removeNode(list.tail());
+        assertSame(middle, list.tail());
+        assertSame(middle, DoubleList.findHead(middle));
+        assertEquals(1, list.size());
+
+        DoubleList.removeNode(middle);
+        assertTrue(list.isEmpty());
+        assertNull(list.head());
+    }
+
+    @Test
+    void testRemoveRejectsForeignAndRemovedNodes() {
+        DoubleList list = new DoubleList();
+        DoubleList other = new DoubleList();
+        DoubleList.Node node = list.addLast(1);
+        assertThrows(IllegalArgumentException.class, () -> other.remove(node));
+        assertThrows(IllegalArgumentException.class, () -> other.insertAfter(node, 2));
+        DoubleList.removeNode(node);
+        assertThrows(IllegalArgumentException.class, () -> DoubleList.removeNode(node));
+        assertThrows(IllegalArgumentException.class, () -> DoubleList.findHead(node));
+        assertThrows(IllegalArgumentException.class, () -> DoubleList.findHead(null));
+    }
+
+    @Test
+    void testRandomOperationsMatchArrayList() {
+        Random random = new Random(20);
+        DoubleList list = new DoubleList();
+        List<DoubleList.Node> nodes = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int choice = random.nextInt(4);
+            if (nodes.isEmpty() || choice == 0) {
+                nodes.add(0, list.addFirst(i));
+            } else if (choice == 1) {
+                int at = random.nextInt(nodes.size());
+                nodes.add(at + 1, list.insertAfter(nodes.get(at), i));
+            } else {
+                DoubleList.removeNode(nodes.remove(random.nextInt(nodes.size())));
+            }
+            assertEquals(nodes.size(), list.size());
+            if (!nodes.isEmpty()) {
+                DoubleList.Node any = nodes.get(random.nextInt(nodes.size()));
+                assertSame(nodes.get(0), DoubleList.findHead(any));
+                assertSame(nodes.get(nodes.size() - 1), DoubleList.findTail(any));
+            }
+        }
+        List<Integer> expected = new ArrayList<>();
+        nodes.forEach(node -> expected.add(node.data));
+        assertEquals(expected, list.toList());
+    }
+}
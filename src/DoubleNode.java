@@ -1,5 +1,10 @@
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a node in a doubly linked list.
@@ -7,6 +12,9 @@ import java.util.List;
  */
 public class DoubleNode {
 
+  // Some VMs reserve header words in arrays, so stay a little below Integer.MAX_VALUE like ArrayList.
+  static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
   /**
    * The data stored in this node.
    */
@@ -62,6 +70,105 @@ public class DoubleNode {
     return result;
   }
 
+  /**
+   * Copies the values of the doubly linked list starting at this node into an int array.
+   * The list is walked twice: once to count the nodes and once to copy them, so nothing is boxed
+   * and the array is allocated at its exact size.
+   *
+   * @return an array containing the values of the nodes in the linked list
+   * @throws IllegalStateException if the list has more nodes than an int array can hold
+   */
+  public int[] toIntArray() {
+    long length = 0;
+    for (DoubleNode current = this; current != null; current = current.next) {
+      length++;
+    }
+    if (length > MAX_ARRAY_LENGTH) {
+      throw tooLongForArray();
+    }
+    return toIntArray((int) length);
+  }
+
+  /**
+   * Copies the values of the doubly linked list starting at this node into an int array
+   * in a single walk, using a length the caller already knows (for example
+   * {@link MappedChain#length()}). If the list turns out to have a
+   * different length the result is still exact, at the cost of growing or trimming the array.
+   *
+   * @param knownLength the expected number of nodes
+   * @return an array containing the values of the nodes in the linked list
+   * @throws IllegalArgumentException if knownLength is negative
+   * @throws IllegalStateException if the list has more nodes than an int array can hold
+   */
+  public int[] toIntArray(int knownLength) {
+    if (knownLength < 0) {
+      throw new IllegalArgumentException("Known length cannot be negative.");
+    }
+    int[] result = new int[Math.min(Math.max(knownLength, 1), MAX_ARRAY_LENGTH)];
+    int size = 0;
+    for (DoubleNode current = this; current != null; current = current.next) {
+      if (size == result.length) {
+        result = Arrays.copyOf(result, grownLength(size));
+      }
+      result[size++] = current.data;
+    }
+    return size == result.length ? result : Arrays.copyOf(result, size);
+  }
+  // Doubles the array, capped at the largest length VMs reliably allocate, like ArrayList.
+  static int grownLength(int length) {
+    if (length >= MAX_ARRAY_LENGTH) {
+      throw tooLongForArray();
+    }
+    return (int) Math.min(length * 2L, MAX_ARRAY_LENGTH);
+  }
+
+  private static IllegalStateException tooLongForArray() {
+    return new IllegalStateException("List is longer than the " + MAX_ARRAY_LENGTH + " values an int array can hold.");
+  }
+
+
+  /**
+   * Returns a sequential stream of the values of the doubly linked list starting at this node.
+   * The values are not boxed. The stream reads the list lazily, so the list must not be changed
+   * until the stream has been consumed.
+   *
+   * @return an ordered stream of the values in the linked list
+   */
+  public IntStream intStream() {
+    return StreamSupport.intStream(spliterator(), false);
+  }
+
+  /**
+   * Returns a parallel stream of the values of the doubly linked list starting at this node.
+   * The list is split into batches as described in {@link DoubleNodeSpliterator}.
+   *
+   * @return an ordered, parallel stream of the values in the linked list
+   */
+  public IntStream parallelIntStream() {
+    return StreamSupport.intStream(spliterator(), true);
+  }
+
+  /**
+   * Returns a spliterator over the values of the doubly linked list starting at this node,
+   * with an unknown size.
+   *
+   * @return a spliterator over the values in the linked list
+   */
+  public Spliterator.OfInt spliterator() {
+    return new DoubleNodeSpliterator(this);
+  }
+
+  /**
+   * Returns a sized spliterator over the values of the first length nodes starting at this node.
+   *
+   * @param length the number of nodes to cover, which must not exceed the length of the list
+   * @return a spliterator reporting an exact size
+   * @throws IllegalArgumentException if length is negative
+   */
+  public Spliterator.OfInt spliterator(long length) {
+    return new DoubleNodeSpliterator(this, length);
+  }
+
   /**
    * Constructs a doubly linked list from a Java List.
    * The head of the list corresponds to the first element in the input list.
@@ -87,4 +194,139 @@ public class DoubleNode {
 
     return head;
   }
+
+  /**
+   * Constructs a doubly linked list from a Java List, taking the nodes from a pool.
+   * The head of the list corresponds to the first element in the input list.
+   *
+   * @param values a list of integers to convert into a doubly linked list
+   * @param pool the pool to take nodes from
+   * @return the head node of the constructed doubly linked list
+   * @throws IllegalArgumentException if the input list is null or empty, or the pool is null
+   */
+  public static DoubleNode fromList(List<Integer> values, NodePool<DoubleNode> pool) {
+    if (values == null || values.isEmpty() || pool == null) {
+      throw new IllegalArgumentException("Input list cannot be null or empty and pool cannot be null.");
+    }
+
+    DoubleNode head = pool.acquire(values.get(0));
+    DoubleNode current = head;
+
+    for (int i = 1; i < values.size(); i++) {
+      DoubleNode newNode = pool.acquire(values.get(i));
+      current.next = newNode;
+      newNode.prev = current;
+      current = newNode;
+    }
+
+    return head;
+  }
+
+  /**
+   * Unlinks a node from its doubly linked list and hands it back to a pool for reuse.
+   * Its neighbours are linked to each other before the pool clears the node's own links.
+   *
+   * @param node the node to remove
+   * @param pool the pool that receives the removed node
+   * @return the node that followed the removed one, or null if it was the tail
+   * @throws IllegalArgumentException if the node or pool is null
+   */
+  public static DoubleNode removeNode(DoubleNode node, NodePool<DoubleNode> pool) {
+    if (node == null || pool == null) {
+      throw new IllegalArgumentException("Node and pool cannot be null.");
+    }
+    DoubleNode following = node.next;
+    if (node.prev != null) {
+      node.prev.next = following;
+    }
+    if (following != null) {
+      following.prev = node.prev;
+    }
+    pool.release(node);
+    return following;
+  }
+
+  /**
+   * Constructs a doubly linked list from an int array without boxing.
+   * The head of the list corresponds to the first element in the array.
+   *
+   * @param values the values to convert into a doubly linked list
+   * @return the head node of the constructed doubly linked list
+   * @throws IllegalArgumentException if the array is null or empty
+   */
+  public static DoubleNode fromArray(int[] values) {
+    if (values == null || values.length == 0) {
+      throw new IllegalArgumentException("Input array cannot be null or empty.");
+    }
+
+    DoubleNode head = new DoubleNode(values[0]);
+    DoubleNode current = head;
+
+    for (int i = 1; i < values.length; i++) {
+      DoubleNode newNode = new DoubleNode(values[i]);
+      current.next = newNode;
+      newNode.prev = current;
+      current = newNode;
+    }
+
+    return head;
+  }
+
+  /**
+   * Constructs a doubly linked list holding the consecutive values from (inclusive) to
+   * to (exclusive), in increasing order.
+   *
+   * @param from the first value, inclusive
+   * @param to the end of the range, exclusive
+   * @return the head node of the constructed doubly linked list
+   * @throws IllegalArgumentException if the range is empty
+   */
+  public static DoubleNode fromRange(int from, int to) {
+    if (from >= to) {
+      throw new IllegalArgumentException("Range cannot be empty.");
+    }
+
+    DoubleNode head = new DoubleNode(from);
+    DoubleNode current = head;
+
+    for (int value = from + 1; value < to; value++) {
+      DoubleNode newNode = new DoubleNode(value);
+      current.next = newNode;
+      newNode.prev = current;
+      current = newNode;
+    }
+
+    return head;
+  }
+
+  /**
+   * Constructs a doubly linked list from the values of an IntStream, in encounter order,
+   * without boxing. The stream is consumed.
+   *
+   * @param values the stream of values to convert into a doubly linked list
+   * @return the head node of the constructed doubly linked list
+   * @throws IllegalArgumentException if the stream is null or empty
+   */
+  public static DoubleNode fromStream(IntStream values) {
+    if (values == null) {
+      throw new IllegalArgumentException("Input stream cannot be null.");
+    }
+    PrimitiveIterator.OfInt iterator = values.iterator();
+    if (!iterator.hasNext()) {
+      throw new IllegalArgumentException("Input stream cannot be empty.");
+    }
+
+    DoubleNode head = new DoubleNode(iterator.nextInt());
+    DoubleNode current = head;
+
+    while (iterator.hasNext()) {
+      int value = iterator.nextInt();
+      DoubleNode newNode = new DoubleNode(value);
+      current.next = newNode;
+      newNode.prev = current;
+      current = newNode;
+    }
+
+    return head;
+  }
 }
@@ -0,0 +1,44 @@
+/**
+ * A {@link java.util.Spliterator.OfInt Spliterator.OfInt} over the values of a chain of {@link DoubleNode}s,
+ * following {@code next}.
+ *
+ * Each split copies the next batch of values into an array, with batches growing by
+ * {@value #BATCH_UNIT} values per split; see {@link NodeSpliterator}. When the chain's length is known,
+ * pass it to {@link #DoubleNodeSpliterator(DoubleNode, long)}: the spliterator then reports
+ * {@link #SIZED} and {@link #SUBSIZED} with an exact {@link #estimateSize()}, which lets streams pre-size
+ * results such as {@code toArray()}. Without it the size is reported as unknown ({@link Long#MAX_VALUE}).
+ *
+ * The chain must not be changed while it is being traversed.
+ */
+public class DoubleNodeSpliterator extends NodeSpliterator<DoubleNode> {
+
+  /**
+   * Creates a spliterator over a chain of unknown length.
+   *
+   * @param head the first node, or null for an empty spliterator
+   */
+  public DoubleNodeSpliterator(DoubleNode head) {
+    super(head);
+  }
+
+  /**
+   * Creates a sized spliterator over the first length nodes of a chain.
+   *
+   * @param head the first node, or null for an empty spliterator
+   * @param length the number of nodes to cover, which must not exceed the length of the chain
+   * @throws IllegalArgumentException if length is negative
+   */
+  public DoubleNodeSpliterator(DoubleNode head, long length) {
+    super(head, length);
+  }
+
+  @Override
+  DoubleNode next(DoubleNode node) {
+    return node.next;
+  }
+
+  @Override
+  int data(DoubleNode node) {
+    return node.data;
+  }
+}
@@ -0,0 +1,118 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public class DoubleNodeSpliteratorTest {
+
+    // ----------------------------------------------------------------------
+    // characteristics and sizes
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testUnknownSize() {
+        Spliterator.OfInt spliterator = DoubleNode.fromRange(0, 5_000).spliterator();
+        assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        assertNotNull(spliterator.trySplit());
+        assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+    }
+
+    @Test
+    void testKnownSizeIsExactAfterSplits() {
+        Spliterator.OfInt spliterator = DoubleNode.fromRange(0, 5_000).spliterator(5_000);
+        assertEquals(5_000, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        Spliterator.OfInt prefix = spliterator.trySplit();
+        assertEquals(DoubleNodeSpliterator.BATCH_UNIT, prefix.getExactSizeIfKnown());
+        assertEquals(5_000 - prefix.estimateSize(), spliterator.getExactSizeIfKnown());
+        assertTrue(prefix.tryAdvance((int value) -> assertEquals(0, value)));
+    }
+
+    @Test
+    void testKnownLengthLimitsTraversal() {
+        int[] values = StreamSupport.intStream(DoubleNode.fromRange(0, 10).spliterator(4), false).toArray();
+        assertArrayEquals(new int[] {0, 1, 2, 3}, values);
+    }
+
+    @Test
+    void testEmptySpliterator() {
+        Spliterator.OfInt spliterator = new DoubleNodeSpliterator(null);
+        assertEquals(0, spliterator.estimateSize());
+        assertNull(spliterator.trySplit());
+        assertFalse(spliterator.tryAdvance((int value) -> fail()));
+    }
+
+    // ----------------------------------------------------------------------
+    // splitting
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testSplitsCoverChainInOrder() {
+        Spliterator.OfInt spliterator = DoubleNode.fromRange(0, 10_000).spliterator();
+        List<Integer> seen = new ArrayList<>();
+        Spliterator.OfInt prefix;
+        while ((prefix = spliterator.trySplit()) != null) {
+            prefix.forEachRemaining((int value) -> seen.add(value));
+        }
+        spliterator.forEachRemaining((int value) -> seen.add(value));
+        List<Integer> expected = new ArrayList<>();
+        IntStream.range(0, 10_000).forEach(expected::add);
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void testParallelStreamMatchesSequential() {
+        int[] values = new Random(21).ints(100_000, 0, 1024).toArray();
+        DoubleNode head = DoubleNode.fromArray(values);
+        assertEquals(IntStream.of(values).sum(), head.parallelIntStream().sum());
+        assertArrayEquals(values, head.parallelIntStream().toArray());
+        assertArrayEquals(IntStream.of(values).map(v -> v * 3).toArray(),
+            StreamSupport.intStream(head.spliterator(values.length), true).map(v -> v * 3).toArray());
+    }
+
+    // ----------------------------------------------------------------------
+    // prev links
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testStartingMidChainIgnoresPrev() {
+        DoubleNode head = DoubleNode.fromRange(0, 10);
+        DoubleNode middle = head.next.next.next;
+        assertArrayEquals(IntStream.range(3, 10).toArray(), middle.intStream().toArray());
+        assertEquals(7, middle.spliterator(7).getExactSizeIfKnown());
+    }
+
+    @Test
+    void testTraversalFollowsNextOnly() {
+        DoubleNode head = DoubleNode.fromRange(0, 5_000);
+        // prev links play no part, even when they point somewhere else entirely.
+        DoubleNode stranger = new DoubleNode(-1);
+        for (DoubleNode node = head.next; node != null; node = node.next) {
+            node.prev = stranger;
+        }
+        assertArrayEquals(IntStream.range(0, 5_000).toArray(), head.parallelIntStream().toArray());
+        assertNull(stranger.next);
+    }
+
+    @Test
+    void testSplittingLeavesLinksIntact() {
+        DoubleNode head = DoubleNode.fromRange(0, 5_000);
+        assertEquals(IntStream.range(0, 5_000).sum(), head.parallelIntStream().sum());
+        int count = 0;
+        for (DoubleNode node = head; node.next != null; node = node.next) {
+            assertSame(node, node.next.prev);
+            count++;
+        }
+        assertEquals(4_999, count);
+        assertNull(head.prev);
+        assertThrows(IllegalArgumentException.class, () -> new DoubleNodeSpliterator(null, -1));
+    }
+}
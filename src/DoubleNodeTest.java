@@ -2,6 +2,7 @@ import org.junit.Test;
 import static org.junit.Assert.*;
 import java.util.List;
 import java.util.Collections;
+import java.util.stream.IntStream;
 
 public class DoubleNodeTest {
 
@@ -86,4 +87,68 @@ public class DoubleNodeTest {
     assertThrows(IllegalArgumentException.class,
       () -> DoubleNode.fromList(null));
   }
+
+  @Test
+  public void testFromArrayToIntArrayRoundTrip() {
+    int[] values = {Integer.MAX_VALUE, -200, 0, 450, Integer.MIN_VALUE};
+    DoubleNode head = DoubleNode.fromArray(values);
+    assertEquals(List.of(Integer.MAX_VALUE, -200, 0, 450, Integer.MIN_VALUE), head.toList());
+    assertArrayEquals(values, head.toIntArray());
+  }
+
+  @Test
+  public void testFromArrayWithEmptyArray() {
+    assertThrows(IllegalArgumentException.class,
+      () -> DoubleNode.fromArray(new int[0]));
+    assertThrows(IllegalArgumentException.class,
+      () -> DoubleNode.fromArray(null));
+  }
+
+  @Test
+  public void testFromRange() {
+    DoubleNode head = DoubleNode.fromRange(-2, 3);
+    assertEquals(List.of(-2, -1, 0, 1, 2), head.toList());
+    assertThrows(IllegalArgumentException.class,
+      () -> DoubleNode.fromRange(4, 4));
+  }
+
+  @Test
+  public void testToIntArrayWithWrongKnownLength() {
+    DoubleNode head = DoubleNode.fromRange(0, 10);
+    int[] expected = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+    assertArrayEquals(expected, head.toIntArray(10));
+    assertArrayEquals(expected, head.toIntArray(3));
+    assertArrayEquals(expected, head.toIntArray(0));
+    assertArrayEquals(expected, head.toIntArray(50));
+    assertThrows(IllegalArgumentException.class,
+      () -> head.toIntArray(-1));
+  }
+
+  @Test
+  public void testToIntArrayGrowthIsCapped() {
+    assertEquals(20, DoubleNode.grownLength(10));
+    assertEquals(DoubleNode.MAX_ARRAY_LENGTH, DoubleNode.grownLength(1_500_000_000));
+    assertThrows(IllegalStateException.class,
+      () -> DoubleNode.grownLength(DoubleNode.MAX_ARRAY_LENGTH));
+  }
+
+  @Test
+  public void testIntStreamAndFromStream() {
+    DoubleNode head = DoubleNode.fromArray(new int[] {5, 7, 6, 20});
+    assertEquals(38, head.intStream().sum());
+    assertArrayEquals(new int[] {5, 7, 6, 20}, head.intStream().toArray());
+
+    DoubleNode copy = DoubleNode.fromStream(head.intStream().map(value -> value * 2));
+    assertEquals(List.of(10, 14, 12, 40), copy.toList());
+    assertThrows(IllegalArgumentException.class,
+      () -> DoubleNode.fromStream(IntStream.empty()));
+  }
+
+  @Test
+  public void testFromArrayLinksPrev() {
+    DoubleNode head = DoubleNode.fromArray(new int[] {1, 2, 3});
+    assertNull(head.prev);
+    assertSame(head, head.next.prev);
+    assertSame(head.next, head.next.next.prev);
+  }
 }
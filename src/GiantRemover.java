@@ -0,0 +1,200 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Removes "giants" from singly linked lists, sequentially or in parallel, with the semantics of
+ * {@link Toolbox#removeGiants(SingleNode)}: a node is removed when its value is greater than the value
+ * of the node that originally followed it, and the head is never removed.
+ *
+ * Because each decision depends only on a node and its original successor, the parallel variants
+ * split the chain with {@link ChainSegments} and filter every segment on a {@link ForkJoinPool}. The
+ * last node of a segment looks ahead at the first node of the next one, whose value no task changes.
+ * Each task links the survivors of its own segment; the calling thread then splices the segments'
+ * survivor runs together in O(segments).
+ */
+public class GiantRemover {
+
+  // Several segments per thread lets work stealing even out uneven segment costs.
+  private static final int SEGMENTS_PER_THREAD = 4;
+
+  private GiantRemover() {
+  }
+
+  /**
+   * Removes giants from a linked list in one sequential pass.
+   *
+   * @param head the head of the list
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static void removeGiants(SingleNode head) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    removeGiants(head, (Consumer<SingleNode>) null);
+  }
+
+  /**
+   * Removes giants from a linked list in one sequential pass and hands the removed nodes back to a
+   * node pool for reuse.
+   *
+   * @param head the head of the list
+   * @param pool the pool that receives the removed nodes
+   * @throws IllegalArgumentException if the head or pool is null
+   */
+  public static void removeGiants(SingleNode head, NodePool<SingleNode> pool) {
+    if (head == null || pool == null) {
+      throw new IllegalArgumentException("Head and pool cannot be null.");
+    }
+    removeGiants(head, pool::release);
+  }
+
+  // The pass behind the sequential variants and SingleList. Each removed node is passed to removed, if not null,
+  // once the pass has read its next link. Returns the last kept node.
+  static SingleNode removeGiants(SingleNode head, Consumer<SingleNode> removed) {
+    return removeGiants(head, removed, null);
+  }
+
+  // The same pass for InstrumentedToolbox, which also needs the number of nodes walked. If visited is not null,
+  // that number is added to visited[0].
+  static SingleNode removeGiants(SingleNode head, Consumer<SingleNode> removed, long[] visited) {
+    long nodes = 1;
+    SingleNode kept = head;
+    SingleNode current = head.next;
+    while (current != null) {
+      nodes++;
+      SingleNode following = current.next;
+      if (following == null || current.data <= following.data) {
+        kept.next = current;
+        kept = current;
+      } else if (removed != null) {
+        removed.accept(current);
+      }
+      current = following;
+    }
+    kept.next = null;
+    if (visited != null) {
+      visited[0] += nodes;
+    }
+    return kept;
+  }
+
+  /**
+   * Removes giants from a linked list using the common fork-join pool.
+   *
+   * @param head the head of the list
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static void removeGiantsParallel(SingleNode head) {
+    removeGiantsParallel(head, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Removes giants from a linked list on the given pool.
+   * The chain is walked once on the calling thread to find the split points.
+   *
+   * @param head the head of the list
+   * @param pool the pool to run the segment filters on
+   * @throws IllegalArgumentException if the head or pool is null
+   */
+  public static void removeGiantsParallel(SingleNode head, ForkJoinPool pool) {
+    if (head == null || pool == null) {
+      throw new IllegalArgumentException("Head and pool cannot be null.");
+    }
+    removeGiantsParallel(ChainSegments.of(head, pool.getParallelism() * SEGMENTS_PER_THREAD), pool);
+  }
+
+  /**
+   * Removes giants from a linked list that has already been split into segments.
+   * The segments describe the chain before the call and must not be reused afterwards.
+   *
+   * @param segments the split points of the chain
+   * @param pool the pool to run the segment filters on
+   * @throws IllegalArgumentException if segments or pool is null
+   */
+  public static void removeGiantsParallel(ChainSegments segments, ForkJoinPool pool) {
+    if (segments == null || pool == null) {
+      throw new IllegalArgumentException("Segments and pool cannot be null.");
+    }
+    int count = segments.count();
+    // Every segment's successor start is read before any task runs, so no task depends on another
+    // task's writes to find its lookahead node.
+    SingleNode[] lookahead = new SingleNode[count];
+    for (int s = 0; s < count - 1; s++) {
+      lookahead[s] = segments.start(s + 1);
+    }
+    SingleNode[] firstKept = new SingleNode[count];
+    SingleNode[] lastKept = new SingleNode[count];
+    pool.invoke(new SegmentFilter(segments, lookahead, firstKept, lastKept, 0, count));
+
+    SingleNode kept = lastKept[0];
+    for (int s = 1; s < count; s++) {
+      if (firstKept[s] != null) {
+        kept.next = firstKept[s];
+        kept = lastKept[s];
+      }
+    }
+    kept.next = null;
+  }
+
+  private static class SegmentFilter extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ChainSegments segments;
+    private final SingleNode[] lookahead;
+    private final SingleNode[] firstKept;
+    private final SingleNode[] lastKept;
+    private final int from;
+    private final int to;
+
+    SegmentFilter(ChainSegments segments, SingleNode[] lookahead, SingleNode[] firstKept, SingleNode[] lastKept,
+        int from, int to) {
+      this.segments = segments;
+      this.lookahead = lookahead;
+      this.firstKept = firstKept;
+      this.lastKept = lastKept;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        filter(from);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new SegmentFilter(segments, lookahead, firstKept, lastKept, from, middle),
+          new SegmentFilter(segments, lookahead, firstKept, lastKept, middle, to));
+    }
+
+    // Links the segment's survivors to each other. The last survivor's next is left for the splice.
+    private void filter(int segment) {
+      SingleNode current = segments.start(segment);
+      SingleNode first = null;
+      SingleNode kept = null;
+      if (segment == 0) {
+        // The head is never removed.
+        first = current;
+        kept = current;
+        current = current.next;
+      }
+      SingleNode end = lookahead[segment];
+      while (current != end) {
+        SingleNode following = current.next;
+        if (following == null || current.data <= following.data) {
+          if (kept == null) {
+            first = current;
+          } else {
+            kept.next = current;
+          }
+          kept = current;
+        }
+        current = following;
+      }
+      firstKept[segment] = first;
+      lastKept[segment] = kept;
+    }
+  }
+}
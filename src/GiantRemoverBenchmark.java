@@ -0,0 +1,67 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares sequential and parallel giant removal through {@link MicroBench}.
+ *
+ * Usage: {@code java GiantRemoverBenchmark [--sizes=100000,1000000] [--warmup=ms] [--measure=ms]}
+ *
+ * Removal consumes its input, so every invocation rebuilds the chain in the untimed setup step. The
+ * parallel rows run {@link GiantRemover#removeGiantsParallel(SingleNode, ForkJoinPool)}, including its
+ * sequential split pass, on pools of 1, 2, 4, ... threads up to the number of available processors.
+ */
+public class GiantRemoverBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {100_000, 1_000_000, 10_000_000};
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    long warmup = 500;
+    long measure = 1000;
+    for (String arg : args) {
+      if (arg.startsWith("--sizes=")) {
+        sizes = Arrays.stream(arg.substring("--sizes=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Long.parseLong(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    MicroBench bench = new MicroBench(warmup, measure);
+    System.out.println(MicroBench.Result.header());
+    for (int size : sizes) {
+      int[] values = ToolboxBenchmark.values(size);
+      System.out.println(bench.runWithSetup("sequential", size, () -> ToolboxBenchmark.singleChain(values), head -> {
+        GiantRemover.removeGiants(head);
+        return head;
+      }));
+      for (int threads : threadCounts()) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+          System.out.println(bench.runWithSetup("parallel p" + threads, size,
+              () -> ToolboxBenchmark.singleChain(values), head -> {
+                GiantRemover.removeGiantsParallel(head, pool);
+                return head;
+              }));
+        } finally {
+          pool.shutdown();
+        }
+      }
+    }
+  }
+
+  private static int[] threadCounts() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    int[] counts = new int[32 - Integer.numberOfLeadingZeros(processors) + 1];
+    int n = 0;
+    for (int threads = 1; threads < processors; threads *= 2) {
+      counts[n++] = threads;
+    }
+    counts[n++] = processors;
+    return Arrays.copyOf(counts, n);
+  }
+}
@@ -0,0 +1,89 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class GiantRemoverTest {
+
+    // ----------------------------------------------------------------------
+    // removeGiants(SingleNode head)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testRemoveGiants() {
+        SingleNode head = SingleNode.fromList(Arrays.asList(5, 7, 6, 20, 4, 4));
+        GiantRemover.removeGiants(head);
+        assertEquals(List.of(5, 6, 4, 4), head.toList());
+    }
+
+    @Test
+    void testHeadIsNeverRemoved() {
+        SingleNode head = SingleNode.fromList(Arrays.asList(9, 3, 1));
+        GiantRemover.removeGiants(head);
+        assertEquals(List.of(9, 1), head.toList());
+    }
+
+    // ----------------------------------------------------------------------
+    // removeGiantsParallel
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testParallelMatchesSequential() {
+        Random random = new Random(15);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int round = 0; round < 200; round++) {
+                int[] values = random.ints(1 + random.nextInt(300), 0, 8).toArray();
+                SingleNode expected = chain(values);
+                GiantRemover.removeGiants(expected);
+
+                SingleNode head = chain(values);
+                GiantRemover.removeGiantsParallel(head, pool);
+                assertEquals(expected.toList(), head.toList());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelWithSegmentsOfOneNode() {
+        // Every segment boundary is a lookahead, and a whole segment can disappear.
+        int[] values = {4, 9, 8, 7, 6, 10, 1, 2, 3, 0};
+        SingleNode expected = chain(values);
+        GiantRemover.removeGiants(expected);
+
+        SingleNode head = chain(values);
+        GiantRemover.removeGiantsParallel(ChainSegments.of(head, values.length), ForkJoinPool.commonPool());
+        assertEquals(expected.toList(), head.toList());
+        assertEquals(List.of(4, 6, 1, 2, 0), head.toList());
+    }
+
+    @Test
+    void testParallelLargeList() {
+        int[] values = new Random(67).ints(200_000, 0, 1024).toArray();
+        SingleNode expected = chain(values);
+        GiantRemover.removeGiants(expected);
+        SingleNode head = chain(values);
+        GiantRemover.removeGiantsParallel(head);
+        assertEquals(expected.toList(), head.toList());
+    }
+
+    @Test
+    void testNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> GiantRemover.removeGiants(null));
+        assertThrows(IllegalArgumentException.class, () -> GiantRemover.removeGiantsParallel((SingleNode) null));
+        assertThrows(IllegalArgumentException.class, () -> GiantRemover.removeGiantsParallel(new SingleNode(1), null));
+        assertThrows(IllegalArgumentException.class,
+            () -> GiantRemover.removeGiantsParallel((ChainSegments) null, ForkJoinPool.commonPool()));
+    }
+
+    private static SingleNode chain(int[] values) {
+        return SingleNode.fromList(IntStream.of(values).boxed().collect(Collectors.toList()));
+    }
+}
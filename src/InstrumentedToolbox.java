@@ -0,0 +1,283 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * The {@link Toolbox} operations, recorded in {@link ToolboxMetrics} and as {@link ToolboxEvent}s.
+ *
+ * While {@link ToolboxMetrics#isEnabled()} is true, the call count, the elapsed time, the number of
+ * elements and the number of list nodes visited are recorded once a call completes; calls that throw are
+ * not recorded. While it is false the methods do the same work and skip the recording, after one
+ * volatile read.
+ *
+ * The operations that walk a list ({@code length}, {@code findTail}, {@code findHead},
+ * {@code countOccurrences}, {@code findNthElement} and {@code removeGiants}) run their traversal here,
+ * following the contracts documented on Toolbox, so the nodes they actually visit are counted in the same
+ * loop rather than by walking the list a second time. Their element count is that node count. The other
+ * operations delegate to the Toolbox method of the same name and take their element count from the
+ * input, which is free: one node for {@code removeNode} and {@code insertNode}, the queue size, the
+ * string length or the map size.
+ */
+public class InstrumentedToolbox {
+
+  private InstrumentedToolbox() {
+  }
+
+  /**
+   * Records {@link Toolbox#length(SingleNode)}.
+   *
+   * @param head the head node of the linked list
+   * @return the number of nodes in the list
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static int length(SingleNode head) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    if (!ToolboxMetrics.isEnabled()) {
+      return countNodes(head);
+    }
+    ToolboxEvent event = ToolboxMetrics.begin();
+    long start = System.nanoTime();
+    int result = countNodes(head);
+    ToolboxMetrics.record(ToolboxMetrics.Operation.LENGTH, result, result, start, event);
+    return result;
+  }
+
+  /**
+   * Records {@link Toolbox#findTail(SingleNode)}.
+   *
+   * @param head the head node of the linked list
+   * @return the tail node
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static SingleNode findTail(SingleNode head) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    boolean recording = ToolboxMetrics.isEnabled();
+    ToolboxEvent event = recording ? ToolboxMetrics.begin() : null;
+    long start = recording ? System.nanoTime() : 0;
+    long nodes = 1;
+    SingleNode tail = head;
+    while (tail.next != null) {
+      tail = tail.next;
+      nodes++;
+    }
+    if (recording) {
+      ToolboxMetrics.record(ToolboxMetrics.Operation.FIND_TAIL, nodes, nodes, start, event);
+    }
+    return tail;
+  }
+
+  /**
+   * Records {@link Toolbox#findHead(DoubleNode)}.
+   *
+   * @param tail the tail node of the doubly linked list
+   * @return the head node
+   * @throws IllegalArgumentException if the tail is null
+   */
+  public static DoubleNode findHead(DoubleNode tail) {
+    if (tail == null) {
+      throw new IllegalArgumentException("Tail cannot be null.");
+    }
+    boolean recording = ToolboxMetrics.isEnabled();
+    ToolboxEvent event = recording ? ToolboxMetrics.begin() : null;
+    long start = recording ? System.nanoTime() : 0;
+    long nodes = 1;
+    DoubleNode head = tail;
+    while (head.prev != null) {
+      head = head.prev;
+      nodes++;
+    }
+    if (recording) {
+      ToolboxMetrics.record(ToolboxMetrics.Operation.FIND_HEAD, nodes, nodes, start, event);
+    }
+    return head;
+  }
+
+  /**
+   * Records {@link Toolbox#countOccurrences(SingleNode)}.
+   *
+   * @param head the head node of the linked list
+   * @return a map where the keys are the values in the list, and the values are the counts of occurrences
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static Map<Integer, Integer> countOccurrences(SingleNode head) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    boolean recording = ToolboxMetrics.isEnabled();
+    ToolboxEvent event = recording ? ToolboxMetrics.begin() : null;
+    long start = recording ? System.nanoTime() : 0;
+    long nodes = 0;
+    Map<Integer, Integer> counts = new HashMap<>();
+    for (SingleNode current = head; current != null; current = current.next) {
+      counts.merge(current.data, 1, Integer::sum);
+      nodes++;
+    }
+    if (recording) {
+      ToolboxMetrics.record(ToolboxMetrics.Operation.COUNT_OCCURRENCES, nodes, nodes, start, event);
+    }
+    return counts;
+  }
+
+  /**
+   * Records and delegates to {@link Toolbox#removeNode(DoubleNode)}.
+   *
+   * @param node the node to remove
+   */
+  public static void removeNode(DoubleNode node) {
+    if (!ToolboxMetrics.isEnabled()) {
+      Toolbox.removeNode(node);
+      return;
+    }
+    ToolboxEvent event = ToolboxMetrics.begin();
+    long start = System.nanoTime();
+    Toolbox.removeNode(node);
+    ToolboxMetrics.record(ToolboxMetrics.Operation.REMOVE_NODE, 1, 1, start, event);
+  }
+
+  /**
+   * Records {@link Toolbox#findNthElement(SingleNode, int)}. A call that runs off the end of the list
+   * records every node of the list as visited.
+   *
+   * @param head the head node of the singly linked list
+   * @param n the index of the element to find (0-based)
+   * @return the nth node, or null if the index is out of bounds
+   * @throws IllegalArgumentException if the head is null or n is negative
+   */
+  public static SingleNode findNthElement(SingleNode head, int n) {
+    if (head == null || n < 0) {
+      throw new IllegalArgumentException("Head cannot be null and n cannot be negative.");
+    }
+    boolean recording = ToolboxMetrics.isEnabled();
+    ToolboxEvent event = recording ? ToolboxMetrics.begin() : null;
+    long start = recording ? System.nanoTime() : 0;
+    long nodes = 1;
+    SingleNode current = head;
+    for (int i = 0; i < n && current != null; i++) {
+      current = current.next;
+      if (current != null) {
+        nodes++;
+      }
+    }
+    if (recording) {
+      ToolboxMetrics.record(ToolboxMetrics.Operation.FIND_NTH_ELEMENT, nodes, nodes, start, event);
+    }
+    return current;
+  }
+
+  /**
+   * Records and delegates to {@link Toolbox#insertNode(SingleNode, SingleNode)}.
+   *
+   * @param node the node after which the new node is to be inserted
+   * @param newNode the new node to insert
+   */
+  public static void insertNode(SingleNode node, SingleNode newNode) {
+    if (!ToolboxMetrics.isEnabled()) {
+      Toolbox.insertNode(node, newNode);
+      return;
+    }
+    ToolboxEvent event = ToolboxMetrics.begin();
+    long start = System.nanoTime();
+    Toolbox.insertNode(node, newNode);
+    ToolboxMetrics.record(ToolboxMetrics.Operation.INSERT_NODE, 1, 1, start, event);
+  }
+
+  /**
+   * Records {@link Toolbox#removeGiants(SingleNode)}, using the pass of {@link GiantRemover}.
+   *
+   * @param head the head of the list
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static void removeGiants(SingleNode head) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    if (!ToolboxMetrics.isEnabled()) {
+      GiantRemover.removeGiants(head, null, null);
+      return;
+    }
+    long[] nodes = new long[1];
+    ToolboxEvent event = ToolboxMetrics.begin();
+    long start = System.nanoTime();
+    GiantRemover.removeGiants(head, null, nodes);
+    ToolboxMetrics.record(ToolboxMetrics.Operation.REMOVE_GIANTS, nodes[0], nodes[0], start, event);
+  }
+
+  /**
+   * Records and delegates to {@link Toolbox#tripleValues(Queue)}.
+   *
+   * @param queue the queue to modify
+   */
+  public static void tripleValues(Queue<Integer> queue) {
+    if (!ToolboxMetrics.isEnabled()) {
+      Toolbox.tripleValues(queue);
+      return;
+    }
+    ToolboxEvent event = ToolboxMetrics.begin();
+    long start = System.nanoTime();
+    Toolbox.tripleValues(queue);
+    ToolboxMetrics.record(ToolboxMetrics.Operation.TRIPLE_VALUES, queue.size(), 0, start, event);
+  }
+
+  /**
+   * Records and delegates to {@link Toolbox#rotateQueueLeft(Queue, int)}.
+   *
+   * @param queue the queue to rotate
+   * @param k the number of positions to rotate to the left
+   */
+  public static void rotateQueueLeft(Queue<Integer> queue, int k) {
+    if (!ToolboxMetrics.isEnabled()) {
+      Toolbox.rotateQueueLeft(queue, k);
+      return;
+    }
+    ToolboxEvent event = ToolboxMetrics.begin();
+    long start = System.nanoTime();
+    Toolbox.rotateQueueLeft(queue, k);
+    ToolboxMetrics.record(ToolboxMetrics.Operation.ROTATE_QUEUE_LEFT, queue.size(), 0, start, event);
+  }
+
+  /**
+   * Records and delegates to {@link Toolbox#hasBalancedParentheses(String)}.
+   *
+   * @param input the string to check
+   * @return true if the string has balanced parentheses, false otherwise
+   */
+  public static boolean hasBalancedParentheses(String input) {
+    if (!ToolboxMetrics.isEnabled()) {
+      return Toolbox.hasBalancedParentheses(input);
+    }
+    ToolboxEvent event = ToolboxMetrics.begin();
+    long start = System.nanoTime();
+    boolean result = Toolbox.hasBalancedParentheses(input);
+    ToolboxMetrics.record(ToolboxMetrics.Operation.HAS_BALANCED_PARENTHESES, input.length(), 0, start, event);
+    return result;
+  }
+
+  /**
+   * Records and delegates to {@link Toolbox#topScorer(Map)}.
+   *
+   * @param scores the scores of each player
+   * @return the person with the highest score, or the first person lexicographically if there is a tie
+   */
+  public static String topScorer(Map<String, Integer> scores) {
+    if (!ToolboxMetrics.isEnabled()) {
+      return Toolbox.topScorer(scores);
+    }
+    ToolboxEvent event = ToolboxMetrics.begin();
+    long start = System.nanoTime();
+    String result = Toolbox.topScorer(scores);
+    ToolboxMetrics.record(ToolboxMetrics.Operation.TOP_SCORER, scores.size(), 0, start, event);
+    return result;
+  }
+
+  private static int countNodes(SingleNode head) {
+    int nodes = 0;
+    for (SingleNode current = head; current != null; current = current.next) {
+      nodes++;
+    }
+    return nodes;
+  }
+}
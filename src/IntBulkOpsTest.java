@@ -0,0 +1,45 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntBulkOpsTest {
+
+    // ----------------------------------------------------------------------
+    // scale / add / clamp
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testScaleOnlyTouchesRange() {
+        int[] values = {1, 2, 3, 4};
+        IntBulkOps.scale(values, 1, 3, 3);
+        assertArrayEquals(new int[] {1, 6, 9, 4}, values);
+    }
+
+    @Test
+    void testScaleWrapsLikeBoxedArithmetic() {
+        int[] values = {Integer.MAX_VALUE, -7};
+        IntBulkOps.scale(values, 0, 2, 3);
+        assertArrayEquals(new int[] {Integer.valueOf(Integer.MAX_VALUE) * 3, -21}, values);
+    }
+
+    @Test
+    void testAdd() {
+        int[] values = {0, -1, 5};
+        IntBulkOps.add(values, 0, 3, 10);
+        assertArrayEquals(new int[] {10, 9, 15}, values);
+    }
+
+    @Test
+    void testClamp() {
+        int[] values = {-100, 0, 50, 100};
+        IntBulkOps.clamp(values, 0, 4, -10, 60);
+        assertArrayEquals(new int[] {-10, 0, 50, 60}, values);
+        assertThrows(IllegalArgumentException.class, () -> IntBulkOps.clamp(values, 0, 4, 1, 0));
+    }
+
+    @Test
+    void testInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> IntBulkOps.scale(null, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> IntBulkOps.add(new int[2], 1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> IntBulkOps.add(new int[2], 0, 3, 1));
+    }
+}
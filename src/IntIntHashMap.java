@@ -0,0 +1,351 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * A hash map from int keys to int values that never boxes.
+ *
+ * Entries live in two parallel arrays and collisions are resolved by linear probing.
+ * Slot key 0 marks an empty slot, so the entry for key 0 is stored separately.
+ * The table doubles when it becomes more than half full and is never shrunk, so a map that is
+ * {@link #clear() cleared} and refilled with a similar number of keys allocates nothing.
+ */
+public class IntIntHashMap {
+
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int EMPTY = 0;
+
+  private int[] keys;
+  private int[] values;
+  private int mask;
+  private int size;
+
+  private boolean hasZeroKey;
+  private int zeroValue;
+
+  /**
+   * Receives the entries of a map one at a time.
+   */
+  public interface IntIntConsumer {
+
+    /**
+     * Processes one entry.
+     *
+     * @param key the entry's key
+     * @param value the entry's value
+     */
+    void accept(int key, int value);
+  }
+
+  /**
+   * Constructs an empty map with a small default capacity.
+   */
+  public IntIntHashMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs an empty map that can hold the given number of keys without resizing.
+   *
+   * @param expectedKeys the number of distinct keys expected
+   * @throws IllegalArgumentException if expectedKeys is negative
+   */
+  public IntIntHashMap(int expectedKeys) {
+    if (expectedKeys < 0) {
+      throw new IllegalArgumentException("Expected keys cannot be negative.");
+    }
+    int capacity = Integer.highestOneBit(Math.max(expectedKeys * 2, DEFAULT_CAPACITY) - 1) << 1;
+    keys = new int[capacity];
+    values = new int[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Returns the number of keys in this map.
+   *
+   * @return the number of keys
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns whether this map has no keys.
+   *
+   * @return true if the map is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns whether this map contains the given key.
+   *
+   * @param key the key to look up
+   * @return true if the key is present
+   */
+  public boolean containsKey(int key) {
+    if (key == EMPTY) {
+      return hasZeroKey;
+    }
+    return keys[slot(key)] == key;
+  }
+
+  /**
+   * Returns the value for a key, or 0 if the key is absent.
+   *
+   * @param key the key to look up
+   * @return the value, or 0 if the key is absent
+   */
+  public int get(int key) {
+    return getOrDefault(key, 0);
+  }
+
+  /**
+   * Returns the value for a key, or a default if the key is absent.
+   *
+   * @param key the key to look up
+   * @param defaultValue the value to return if the key is absent
+   * @return the value, or defaultValue if the key is absent
+   */
+  public int getOrDefault(int key, int defaultValue) {
+    if (key == EMPTY) {
+      return hasZeroKey ? zeroValue : defaultValue;
+    }
+    int slot = slot(key);
+    return keys[slot] == key ? values[slot] : defaultValue;
+  }
+
+  /**
+   * Associates a value with a key, replacing any previous value.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  public void put(int key, int value) {
+    if (key == EMPTY) {
+      if (!hasZeroKey) {
+        hasZeroKey = true;
+        size++;
+      }
+      zeroValue = value;
+      return;
+    }
+    int slot = slot(key);
+    if (keys[slot] != key) {
+      slot = insert(slot, key);
+    }
+    values[slot] = value;
+  }
+
+  /**
+   * Adds delta to the value of a key, treating an absent key as 0.
+   *
+   * @param key the key
+   * @param delta the amount to add
+   * @return the new value
+   */
+  public int addTo(int key, int delta) {
+    if (key == EMPTY) {
+      if (!hasZeroKey) {
+        hasZeroKey = true;
+        zeroValue = 0;
+        size++;
+      }
+      return zeroValue += delta;
+    }
+    int slot = slot(key);
+    if (keys[slot] != key) {
+      slot = insert(slot, key);
+      values[slot] = 0;
+    }
+    return values[slot] += delta;
+  }
+
+  /**
+   * Removes every key. The table keeps its capacity so refilling it does not allocate.
+   */
+  public void clear() {
+    Arrays.fill(keys, EMPTY);
+    hasZeroKey = false;
+    size = 0;
+  }
+
+  /**
+   * Calls the consumer once for every entry, in no particular order.
+   *
+   * @param consumer the code to run for each entry
+   * @throws IllegalArgumentException if consumer is null
+   */
+  public void forEach(IntIntConsumer consumer) {
+    if (consumer == null) {
+      throw new IllegalArgumentException("Consumer cannot be null.");
+    }
+    if (hasZeroKey) {
+      consumer.accept(EMPTY, zeroValue);
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != EMPTY) {
+        consumer.accept(keys[i], values[i]);
+      }
+    }
+  }
+
+  /**
+   * Returns a cursor over the entries of this map, in no particular order.
+   * The cursor must not be used after the map is modified.
+   *
+   * @return a cursor positioned before the first entry
+   */
+  public Cursor cursor() {
+    return new Cursor();
+  }
+
+  /**
+   * Adds every entry of another map into this one, summing the values of keys present in both.
+   *
+   * @param other the map to merge in
+   * @throws IllegalArgumentException if other is null
+   */
+  public void merge(IntIntHashMap other) {
+    merge(other, Integer::sum);
+  }
+
+  /**
+   * Copies every entry of another map into this one, combining the values of keys present in both.
+   *
+   * @param other the map to merge in
+   * @param combiner computes the new value from this map's value and other's value
+   * @throws IllegalArgumentException if other or combiner is null
+   */
+  public void merge(IntIntHashMap other, IntBinaryOperator combiner) {
+    if (other == null || combiner == null) {
+      throw new IllegalArgumentException("Other map and combiner cannot be null.");
+    }
+    other.forEach((key, value) -> {
+      if (containsKey(key)) {
+        put(key, combiner.applyAsInt(get(key), value));
+      } else {
+        put(key, value);
+      }
+    });
+  }
+
+  /**
+   * Copies this map into a boxed {@link Map}.
+   *
+   * @return a new map with the same entries
+   */
+  public Map<Integer, Integer> toMap() {
+    Map<Integer, Integer> result = new HashMap<>(Math.max(16, size * 2));
+    forEach(result::put);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return toMap().toString();
+  }
+
+  /**
+   * Walks the entries of an {@link IntIntHashMap} without allocating per entry.
+   */
+  public class Cursor {
+
+    // -1 stands for the separately stored zero key.
+    private int index = -2;
+
+    private Cursor() {
+    }
+
+    /**
+     * Moves to the next entry.
+     *
+     * @return true if there is a current entry after moving, false once the entries are exhausted
+     */
+    public boolean advance() {
+      if (index == -2) {
+        index = -1;
+        if (hasZeroKey) {
+          return true;
+        }
+      }
+      while (++index < keys.length) {
+        if (keys[index] != EMPTY) {
+          return true;
+        }
+      }
+      index = keys.length;
+      return false;
+    }
+
+    /**
+     * Returns the key of the current entry.
+     *
+     * @return the current key
+     * @throws NoSuchElementException if the cursor is not on an entry
+     */
+    public int key() {
+      checkPosition();
+      return index == -1 ? EMPTY : keys[index];
+    }
+
+    /**
+     * Returns the value of the current entry.
+     *
+     * @return the current value
+     * @throws NoSuchElementException if the cursor is not on an entry
+     */
+    public int value() {
+      checkPosition();
+      return index == -1 ? zeroValue : values[index];
+    }
+
+    private void checkPosition() {
+      if (index < -1 || index >= keys.length) {
+        throw new NoSuchElementException("Cursor is not on an entry.");
+      }
+    }
+  }
+
+  // Returns the slot holding key, or the empty slot where it would be inserted.
+  private int slot(int key) {
+    int slot = mix(key) & mask;
+    while (keys[slot] != EMPTY && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private int insert(int slot, int key) {
+    if ((size + 1) * 2 > keys.length) {
+      rehash(keys.length * 2);
+      slot = slot(key);
+    }
+    keys[slot] = key;
+    size++;
+    return slot;
+  }
+
+  private void rehash(int capacity) {
+    int[] oldKeys = keys;
+    int[] oldValues = values;
+    keys = new int[capacity];
+    values = new int[capacity];
+    mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != EMPTY) {
+        int slot = slot(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private static int mix(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,127 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class IntIntHashMapTest {
+
+    // ----------------------------------------------------------------------
+    // put / get / addTo
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testPutAndGet() {
+        IntIntHashMap map = new IntIntHashMap();
+        map.put(7, 70);
+        map.put(-3, 30);
+        map.put(7, 71);
+        assertEquals(2, map.size());
+        assertEquals(71, map.get(7));
+        assertEquals(30, map.get(-3));
+        assertEquals(0, map.get(99));
+        assertEquals(-1, map.getOrDefault(99, -1));
+        assertFalse(map.containsKey(99));
+    }
+
+    @Test
+    void testZeroKey() {
+        IntIntHashMap map = new IntIntHashMap();
+        assertFalse(map.containsKey(0));
+        assertEquals(5, map.getOrDefault(0, 5));
+        assertEquals(2, map.addTo(0, 2));
+        assertEquals(3, map.addTo(0, 1));
+        assertTrue(map.containsKey(0));
+        assertEquals(1, map.size());
+        assertEquals(Map.of(0, 3), map.toMap());
+    }
+
+    @Test
+    void testGrowthMatchesHashMap() {
+        IntIntHashMap map = new IntIntHashMap(0);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(5_000) - 2_500;
+            map.addTo(key, 1);
+            expected.merge(key, 1, Integer::sum);
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map.toMap());
+    }
+
+    @Test
+    void testClearKeepsWorking() {
+        IntIntHashMap map = new IntIntHashMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(0));
+        assertFalse(map.containsKey(50));
+        map.put(50, 1);
+        assertEquals(Map.of(50, 1), map.toMap());
+    }
+
+    @Test
+    void testNegativeExpectedKeys() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(-1));
+    }
+
+    // ----------------------------------------------------------------------
+    // forEach / cursor / merge
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testForEachAndCursorVisitEveryEntry() {
+        IntIntHashMap map = new IntIntHashMap();
+        map.put(0, 1);
+        map.put(4, 2);
+        map.put(Integer.MIN_VALUE, 3);
+
+        Map<Integer, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(Map.of(0, 1, 4, 2, Integer.MIN_VALUE, 3), visited);
+
+        Map<Integer, Integer> walked = new HashMap<>();
+        IntIntHashMap.Cursor cursor = map.cursor();
+        while (cursor.advance()) {
+            walked.put(cursor.key(), cursor.value());
+        }
+        assertEquals(visited, walked);
+        assertFalse(cursor.advance());
+    }
+
+    @Test
+    void testCursorOnEmptyMap() {
+        IntIntHashMap.Cursor cursor = new IntIntHashMap().cursor();
+        assertFalse(cursor.advance());
+        assertThrows(NoSuchElementException.class, cursor::key);
+    }
+
+    @Test
+    void testMergeSumsCounts() {
+        IntIntHashMap left = new IntIntHashMap();
+        left.put(1, 2);
+        left.put(0, 1);
+        IntIntHashMap right = new IntIntHashMap();
+        right.put(1, 3);
+        right.put(9, 4);
+        left.merge(right);
+        assertEquals(Map.of(0, 1, 1, 5, 9, 4), left.toMap());
+    }
+
+    @Test
+    void testMergeWithCombiner() {
+        IntIntHashMap left = new IntIntHashMap();
+        left.put(1, 2);
+        IntIntHashMap right = new IntIntHashMap();
+        right.put(1, 7);
+        left.merge(right, Math::max);
+        assertEquals(7, left.get(1));
+        assertThrows(IllegalArgumentException.class, () -> left.merge(null));
+    }
+}
@@ -0,0 +1,342 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stores many singly linked lists of ints in two parallel arrays instead of one object per node.
+ *
+ * A node is identified by an int handle: its slot in the {@code values} and {@code next} arrays.
+ * The next link of a node is the handle of the following node, or {@link #NIL} at the end of a list.
+ * Nodes are never freed individually; call {@link #clear()} to recycle the whole arena.
+ *
+ * Compared with a {@link SingleNode} chain this saves an object header and a reference per node,
+ * and lists built with {@link #fromChain(SingleNode)} or {@link #append(int, int)} occupy
+ * consecutive slots, so walking them reads memory sequentially.
+ */
+public class IntListArena {
+
+  /**
+   * The handle used as the "null" next link.
+   */
+  public static final int NIL = -1;
+
+  private static final int DEFAULT_CAPACITY = 16;
+  // Some VMs reserve header words in arrays, so stay a little below Integer.MAX_VALUE like ArrayList.
+  static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private int[] values;
+  private int[] next;
+  private int size;
+
+  /**
+   * Constructs an empty arena with a small default capacity.
+   */
+  public IntListArena() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs an empty arena able to hold the given number of nodes before growing.
+   *
+   * @param initialCapacity the number of nodes to reserve space for
+   * @throws IllegalArgumentException if initialCapacity is negative
+   */
+  public IntListArena(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Initial capacity cannot be negative.");
+    }
+    this.values = new int[Math.max(initialCapacity, 1)];
+    this.next = new int[values.length];
+  }
+
+  /**
+   * Returns the number of nodes allocated in this arena.
+   *
+   * @return the number of allocated nodes
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of nodes this arena can hold before its arrays are grown.
+   *
+   * @return the current capacity
+   */
+  public int capacity() {
+    return values.length;
+  }
+
+  /**
+   * Releases every node in this arena. Handles obtained before the call become invalid.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Allocates a node with the given value and no next node.
+   *
+   * @param value the value to store
+   * @return the handle of the new node
+   */
+  public int allocate(int value) {
+    return allocate(value, NIL);
+  }
+
+  /**
+   * Allocates a node with the given value and next link.
+   *
+   * @param value the value to store
+   * @param nextHandle the handle of the next node, or {@link #NIL}
+   * @return the handle of the new node
+   * @throws IllegalArgumentException if nextHandle is neither NIL nor a valid handle
+   */
+  public int allocate(int value, int nextHandle) {
+    if (nextHandle != NIL) {
+      checkHandle(nextHandle);
+    }
+    if (size == values.length) {
+      grow(size + 1);
+    }
+    values[size] = value;
+    next[size] = nextHandle;
+    return size++;
+  }
+
+  /**
+   * Allocates a node with the given value and links it after the given node.
+   * This is the arena counterpart of building a chain with {@code current.next = new SingleNode(value)}.
+   *
+   * @param node the handle of the node to append after
+   * @param value the value to store
+   * @return the handle of the new node
+   * @throws IllegalArgumentException if node is not a valid handle
+   */
+  public int append(int node, int value) {
+    checkHandle(node);
+    int handle = allocate(value, next[node]);
+    next[node] = handle;
+    return handle;
+  }
+
+  /**
+   * Returns the value stored in a node.
+   *
+   * @param handle the node
+   * @return the node's value
+   * @throws IllegalArgumentException if handle is not a valid handle
+   */
+  public int value(int handle) {
+    checkHandle(handle);
+    return values[handle];
+  }
+
+  /**
+   * Replaces the value stored in a node.
+   *
+   * @param handle the node
+   * @param value the new value
+   * @throws IllegalArgumentException if handle is not a valid handle
+   */
+  public void setValue(int handle, int value) {
+    checkHandle(handle);
+    values[handle] = value;
+  }
+
+  /**
+   * Returns the handle of the node after the given one.
+   *
+   * @param handle the node
+   * @return the next node, or {@link #NIL} if handle is the last node of its list
+   * @throws IllegalArgumentException if handle is not a valid handle
+   */
+  public int next(int handle) {
+    checkHandle(handle);
+    return next[handle];
+  }
+
+  /**
+   * Replaces the next link of a node.
+   *
+   * @param handle the node
+   * @param nextHandle the new next node, or {@link #NIL}
+   * @throws IllegalArgumentException if either handle is invalid
+   */
+  public void setNext(int handle, int nextHandle) {
+    checkHandle(handle);
+    if (nextHandle != NIL) {
+      checkHandle(nextHandle);
+    }
+    next[handle] = nextHandle;
+  }
+
+  /**
+   * Copies a singly linked list into this arena. The copied nodes occupy consecutive slots.
+   *
+   * @param head the head of the chain to copy
+   * @return the handle of the copied head
+   * @throws IllegalArgumentException if head is null
+   */
+  public int fromChain(SingleNode head) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    int first = allocate(head.data);
+    int last = first;
+    for (SingleNode current = head.next; current != null; current = current.next) {
+      if (size == values.length) {
+        grow(size + 1);
+      }
+      values[size] = current.data;
+      next[size] = NIL;
+      next[last] = size;
+      last = size++;
+    }
+    return first;
+  }
+
+  /**
+   * Builds a new {@link SingleNode} chain holding the values of the list starting at head.
+   *
+   * @param head the handle of the list head
+   * @return the head of the new chain
+   * @throws IllegalArgumentException if head is not a valid handle
+   */
+  public SingleNode toChain(int head) {
+    checkHandle(head);
+    SingleNode first = new SingleNode(values[head]);
+    SingleNode last = first;
+    for (int current = next[head]; current != NIL; current = next[current]) {
+      last.next = new SingleNode(values[current]);
+      last = last.next;
+    }
+    return first;
+  }
+
+  /**
+   * Finds the length of the list starting at head.
+   *
+   * @param head the handle of the list head
+   * @return the number of nodes in the list
+   * @throws IllegalArgumentException if head is not a valid handle
+   */
+  public int length(int head) {
+    checkHandle(head);
+    int count = 1;
+    for (int current = next[head]; current != NIL; current = next[current]) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Finds the tail of the list starting at head.
+   *
+   * @param head the handle of the list head
+   * @return the handle of the last node in the list
+   * @throws IllegalArgumentException if head is not a valid handle
+   */
+  public int findTail(int head) {
+    checkHandle(head);
+    int current = head;
+    while (next[current] != NIL) {
+      current = next[current];
+    }
+    return current;
+  }
+
+  /**
+   * Finds the nth node of the list starting at head.
+   *
+   * @param head the handle of the list head
+   * @param n the index of the node to find (0-based)
+   * @return the handle of the nth node, or {@link #NIL} if the index is out of bounds
+   * @throws IllegalArgumentException if head is not a valid handle or n is negative
+   */
+  public int findNthElement(int head, int n) {
+    if (n < 0) {
+      throw new IllegalArgumentException("n cannot be negative.");
+    }
+    checkHandle(head);
+    int current = head;
+    for (int i = 0; i < n && current != NIL; i++) {
+      current = next[current];
+    }
+    return current;
+  }
+
+  /**
+   * Counts the occurrences of values in the list starting at head.
+   *
+   * @param head the handle of the list head
+   * @return a map where the keys are the values in the list, and the values are the counts of occurrences
+   * @throws IllegalArgumentException if head is not a valid handle
+   */
+  public Map<Integer, Integer> countOccurrences(int head) {
+    checkHandle(head);
+    Map<Integer, Integer> counts = new HashMap<>();
+    for (int current = head; current != NIL; current = next[current]) {
+      counts.merge(values[current], 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  /**
+   * Links newNode into the list directly after node.
+   *
+   * @param node the handle of the node after which newNode is inserted
+   * @param newNode the handle of the node to insert
+   * @throws IllegalArgumentException if either handle is invalid
+   */
+  public void insertNode(int node, int newNode) {
+    checkHandle(node);
+    checkHandle(newNode);
+    next[newNode] = next[node];
+    next[node] = newNode;
+  }
+
+  /**
+   * Removes all nodes that are strictly larger than their next neighbor in the original list, except for the head.
+   * The removed nodes stay allocated in the arena but are no longer reachable from head.
+   *
+   * @param head the handle of the list head
+   * @throws IllegalArgumentException if head is not a valid handle
+   * @see Toolbox#removeGiants(SingleNode)
+   */
+  public void removeGiants(int head) {
+    checkHandle(head);
+    int kept = head;
+    int current = next[head];
+    while (current != NIL) {
+      int following = next[current];
+      if (following == NIL || values[current] <= values[following]) {
+        next[kept] = current;
+        kept = current;
+      }
+      current = following;
+    }
+    next[kept] = NIL;
+  }
+
+  private void checkHandle(int handle) {
+    if (handle < 0 || handle >= size) {
+      throw new IllegalArgumentException("Invalid node handle: " + handle);
+    }
+  }
+
+  private void grow(int minCapacity) {
+    int newCapacity = newCapacity(values.length, minCapacity);
+    values = Arrays.copyOf(values, newCapacity);
+    next = Arrays.copyOf(next, newCapacity);
+  }
+
+  // Grows by half, capped at MAX_CAPACITY. minCapacity is negative when size + 1 overflowed.
+  static int newCapacity(int oldCapacity, int minCapacity) {
+    if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+      throw new IllegalStateException("Arena cannot hold more than " + MAX_CAPACITY + " nodes.");
+    }
+    long grown = oldCapacity + (long) (oldCapacity >> 1);
+    return (int) Math.min(Math.max(minCapacity, grown), MAX_CAPACITY);
+  }
+}
@@ -0,0 +1,104 @@
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares heap use and traversal time of {@link IntListArena} lists against
+ * {@link SingleNode} chains built with {@link SingleNode#fromList(List)}.
+ *
+ * Run with {@code java IntListArenaBenchmark [size...]}. Heap figures come from
+ * {@link Runtime} after forced collections, so run with a fixed heap (for example
+ * {@code -Xms4g -Xmx4g}) to keep them stable.
+ */
+public class IntListArenaBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {1_000_000, 10_000_000};
+  private static final int ROUNDS = 10;
+
+  private static volatile long sink;
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    if (args.length > 0) {
+      sizes = new int[args.length];
+      for (int i = 0; i < args.length; i++) {
+        sizes[i] = Integer.parseInt(args[i]);
+      }
+    }
+
+    System.out.printf("%12s %14s %14s %12s %12s %12s %12s%n",
+        "size", "chain bytes", "arena bytes", "chain len", "arena len", "chain nth", "arena nth");
+    for (int size : sizes) {
+      run(size);
+    }
+  }
+
+  private static void run(int size) {
+    List<Integer> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(i & 1023);
+    }
+
+    // values must stay reachable until both measurements are taken, or collecting it skews the deltas.
+    long before = usedHeap();
+    SingleNode chain = SingleNode.fromList(values);
+    long chainBytes = usedHeap() - before;
+
+    before = usedHeap();
+    IntListArena arena = new IntListArena(size);
+    int head = arena.fromChain(chain);
+    long arenaBytes = usedHeap() - before;
+    Reference.reachabilityFence(values);
+
+    long chainLength = Long.MAX_VALUE;
+    long arenaLength = Long.MAX_VALUE;
+    long chainNth = Long.MAX_VALUE;
+    long arenaNth = Long.MAX_VALUE;
+    for (int round = 0; round < ROUNDS; round++) {
+      long start = System.nanoTime();
+      sink += chainLength(chain);
+      chainLength = Math.min(chainLength, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      sink += arena.length(head);
+      arenaLength = Math.min(arenaLength, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      sink += chainNth(chain, size - 1).data;
+      chainNth = Math.min(chainNth, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      sink += arena.value(arena.findNthElement(head, size - 1));
+      arenaNth = Math.min(arenaNth, System.nanoTime() - start);
+    }
+
+    System.out.printf("%12d %14d %14d %10.2fms %10.2fms %10.2fms %10.2fms%n",
+        size, chainBytes, arenaBytes,
+        chainLength / 1e6, arenaLength / 1e6, chainNth / 1e6, arenaNth / 1e6);
+  }
+
+  // Plain walks, so the comparison does not depend on the Toolbox implementations.
+  private static int chainLength(SingleNode head) {
+    int count = 0;
+    for (SingleNode current = head; current != null; current = current.next) {
+      count++;
+    }
+    return count;
+  }
+
+  private static SingleNode chainNth(SingleNode head, int n) {
+    SingleNode current = head;
+    for (int i = 0; i < n; i++) {
+      current = current.next;
+    }
+    return current;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,116 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Map;
+
+public class IntListArenaTest {
+
+    // ----------------------------------------------------------------------
+    // fromChain / toChain
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testFromChainToChainRoundTrip() {
+        IntListArena arena = new IntListArena();
+        SingleNode chain = SingleNode.fromList(Arrays.asList(4, -2, 9, 0, 4));
+        int head = arena.fromChain(chain);
+        assertEquals(Arrays.asList(4, -2, 9, 0, 4), arena.toChain(head).toList());
+        assertEquals(5, arena.size());
+    }
+
+    @Test
+    void testFromChainUsesConsecutiveSlots() {
+        IntListArena arena = new IntListArena(2);
+        arena.allocate(100);
+        int head = arena.fromChain(SingleNode.fromList(Arrays.asList(1, 2, 3)));
+        assertEquals(1, head);
+        assertEquals(2, arena.next(head));
+        assertEquals(3, arena.next(arena.next(head)));
+        assertEquals(IntListArena.NIL, arena.next(3));
+    }
+
+    @Test
+    void testFromChainNullHead() {
+        assertThrows(IllegalArgumentException.class, () -> new IntListArena().fromChain(null));
+    }
+
+    @Test
+    void testInvalidHandle() {
+        IntListArena arena = new IntListArena();
+        assertThrows(IllegalArgumentException.class, () -> arena.length(IntListArena.NIL));
+        assertThrows(IllegalArgumentException.class, () -> arena.value(0));
+    }
+
+    // ----------------------------------------------------------------------
+    // Toolbox operations
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testLengthAndFindTail() {
+        IntListArena arena = new IntListArena();
+        int head = arena.fromChain(SingleNode.fromList(Arrays.asList(3, 1, 4, 1, 5)));
+        assertEquals(5, arena.length(head));
+        assertEquals(5, arena.value(arena.findTail(head)));
+    }
+
+    @Test
+    void testFindNthElement() {
+        IntListArena arena = new IntListArena();
+        int head = arena.fromChain(SingleNode.fromList(Arrays.asList(10, 20, 30)));
+        assertEquals(head, arena.findNthElement(head, 0));
+        assertEquals(30, arena.value(arena.findNthElement(head, 2)));
+        assertEquals(IntListArena.NIL, arena.findNthElement(head, 3));
+        assertThrows(IllegalArgumentException.class, () -> arena.findNthElement(head, -1));
+    }
+
+    @Test
+    void testCountOccurrences() {
+        IntListArena arena = new IntListArena();
+        int head = arena.fromChain(SingleNode.fromList(Arrays.asList(5, 12, 5, 3, 5, 12)));
+        assertEquals(Map.of(5, 3, 12, 2, 3, 1), arena.countOccurrences(head));
+    }
+
+    @Test
+    void testInsertNodeAndAppend() {
+        IntListArena arena = new IntListArena();
+        int head = arena.fromChain(SingleNode.fromList(Arrays.asList(1, 3)));
+        arena.insertNode(head, arena.allocate(2));
+        arena.append(arena.findTail(head), 4);
+        assertEquals(Arrays.asList(1, 2, 3, 4), arena.toChain(head).toList());
+    }
+
+    @Test
+    void testRemoveGiantsExample() {
+        IntListArena arena = new IntListArena();
+        int head = arena.fromChain(SingleNode.fromList(Arrays.asList(5, 7, 6, 20, 4, 4)));
+        arena.removeGiants(head);
+        assertEquals(Arrays.asList(5, 6, 4, 4), arena.toChain(head).toList());
+    }
+
+    @Test
+    void testRemoveGiantsHeadNeverRemoved() {
+        IntListArena arena = new IntListArena();
+        int head = arena.fromChain(SingleNode.fromList(Arrays.asList(10, 1, 2)));
+        arena.removeGiants(head);
+        assertEquals(Arrays.asList(10, 1, 2), arena.toChain(head).toList());
+    }
+
+    @Test
+    void testClear() {
+        IntListArena arena = new IntListArena();
+        arena.fromChain(SingleNode.fromList(Arrays.asList(1, 2)));
+        arena.clear();
+        assertEquals(0, arena.size());
+        assertEquals(0, arena.allocate(7));
+    }
+
+    @Test
+    void testGrowthIsCappedAtMaxCapacity() {
+        assertEquals(24, IntListArena.newCapacity(16, 17));
+        assertEquals(IntListArena.MAX_CAPACITY, IntListArena.newCapacity(1_500_000_000, 1_500_000_001));
+        assertEquals(IntListArena.MAX_CAPACITY, IntListArena.newCapacity(IntListArena.MAX_CAPACITY - 1, IntListArena.MAX_CAPACITY));
+        assertThrows(IllegalStateException.class, () -> IntListArena.newCapacity(IntListArena.MAX_CAPACITY, IntListArena.MAX_CAPACITY + 1));
+        assertThrows(IllegalStateException.class, () -> IntListArena.newCapacity(Integer.MAX_VALUE, Integer.MIN_VALUE));
+    }
+}
@@ -0,0 +1,382 @@
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A first-in-first-out queue of ints stored unboxed in a circular array.
+ *
+ * It implements {@link java.util.Queue Queue&lt;Integer&gt;} so it can be passed anywhere a queue is
+ * expected, and also offers {@link #offerInt(int)}, {@link #pollInt()} and {@link #peekInt()},
+ * which never box. {@link Toolbox#rotateQueueLeft} and {@link Toolbox#tripleValues} recognize this
+ * type and use {@link #rotateLeft(int)} and {@link #scaleAll(int)} instead of dequeuing and
+ * re-enqueuing elements. {@link #addToAll(int)} and {@link #clampAll(int, int)} apply the other
+ * bulk transforms the same way, over the backing array in at most two contiguous runs.
+ *
+ * {@link #rotateLeft(int)} always costs O(1): it only records a pending offset, and reads and iteration
+ * apply that offset when they index the array. The first {@code offer} or {@code poll} after a rotation
+ * settles it. When the array is full that also costs O(1); otherwise it moves min(k, size - k) values
+ * across the free gap once, however many rotations were recorded before it.
+ *
+ * Removing an element from the middle, through {@link Iterator#remove()} or {@link #remove(Object)},
+ * shifts whichever side of it is shorter. {@link #removeIf}, {@link #removeAll} and {@link #retainAll}
+ * compact the queue in a single pass instead of removing one element at a time.
+ *
+ * Null elements are not permitted.
+ */
+public class IntRingQueue extends AbstractQueue<Integer> {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private int[] elements;
+  // Index of the first stored element.
+  private int head;
+  private int size;
+  // Pending left rotation in [0, size): the i-th element in queue order is stored at logical(i).
+  private int offset;
+  private int modCount;
+
+  /**
+   * Constructs an empty queue with a small default capacity.
+   */
+  public IntRingQueue() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs an empty queue that can hold the given number of elements before growing.
+   *
+   * @param initialCapacity the number of elements to reserve space for
+   * @throws IllegalArgumentException if initialCapacity is negative
+   */
+  public IntRingQueue(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Initial capacity cannot be negative.");
+    }
+    elements = new int[Math.max(initialCapacity, 1)];
+  }
+
+  /**
+   * Constructs a queue holding the given values in order. The backing array is exactly full,
+   * so a rotation is settled in O(1) until the next element is added.
+   *
+   * @param values the values to enqueue
+   * @return a new queue
+   * @throws IllegalArgumentException if values is null
+   */
+  public static IntRingQueue of(int... values) {
+    if (values == null) {
+      throw new IllegalArgumentException("Values cannot be null.");
+    }
+    IntRingQueue queue = new IntRingQueue(values.length);
+    System.arraycopy(values, 0, queue.elements, 0, values.length);
+    queue.size = values.length;
+    return queue;
+  }
+
+  /**
+   * Adds a value to the back of the queue without boxing.
+   *
+   * @param value the value to add
+   * @return true, as the queue is unbounded
+   */
+  public boolean offerInt(int value) {
+    settleRotation();
+    if (size == elements.length) {
+      grow();
+    }
+    elements[index(size)] = value;
+    size++;
+    modCount++;
+    return true;
+  }
+
+  /**
+   * Removes and returns the value at the front of the queue without boxing.
+   *
+   * @return the front value
+   * @throws NoSuchElementException if the queue is empty
+   */
+  public int pollInt() {
+    if (size == 0) {
+      throw new NoSuchElementException("Queue is empty.");
+    }
+    settleRotation();
+    int value = elements[head];
+    head = index(1);
+    size--;
+    modCount++;
+    return value;
+  }
+
+  /**
+   * Returns the value at the front of the queue without removing or boxing it.
+   *
+   * @return the front value
+   * @throws NoSuchElementException if the queue is empty
+   */
+  public int peekInt() {
+    if (size == 0) {
+      throw new NoSuchElementException("Queue is empty.");
+    }
+    return elements[logical(0)];
+  }
+
+  @Override
+  public boolean offer(Integer value) {
+    if (value == null) {
+      throw new NullPointerException("IntRingQueue does not permit null elements.");
+    }
+    return offerInt(value);
+  }
+
+  @Override
+  public Integer poll() {
+    return size == 0 ? null : pollInt();
+  }
+
+  @Override
+  public Integer peek() {
+    return size == 0 ? null : elements[logical(0)];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    head = 0;
+    size = 0;
+    offset = 0;
+    modCount++;
+  }
+
+  @Override
+  public Iterator<Integer> iterator() {
+    return new Iterator<Integer>() {
+      private int expectedModCount = modCount;
+      private int position;
+      private boolean canRemove;
+
+      @Override
+      public boolean hasNext() {
+        return position < size;
+      }
+
+      @Override
+      public Integer next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (position >= size) {
+          throw new NoSuchElementException();
+        }
+        canRemove = true;
+        return elements[logical(position++)];
+      }
+
+      @Override
+      public void remove() {
+        if (!canRemove) {
+          throw new IllegalStateException();
+        }
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        removeAt(--position);
+        expectedModCount = modCount;
+        canRemove = false;
+      }
+    };
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super Integer> filter) {
+    Objects.requireNonNull(filter);
+    // Test every element before moving any, so an exception from filter leaves the queue unchanged.
+    long[] removed = new long[(size + 63) >>> 6];
+    int removedCount = 0;
+    for (int i = 0; i < size; i++) {
+      if (filter.test(elements[logical(i)])) {
+        removed[i >>> 6] |= 1L << i;
+        removedCount++;
+      }
+    }
+    if (removedCount == 0) {
+      return false;
+    }
+    settleRotation();
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      if ((removed[i >>> 6] & (1L << i)) == 0) {
+        elements[index(kept++)] = elements[index(i)];
+      }
+    }
+    size = kept;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    Objects.requireNonNull(c);
+    return removeIf(c::contains);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    Objects.requireNonNull(c);
+    return removeIf(value -> !c.contains(value));
+  }
+
+  /**
+   * Moves the first k elements to the back of the queue, preserving the order of all elements.
+   *
+   * k is first reduced modulo the size and added to the pending offset, so this costs O(1) whatever
+   * the capacity. See the class comment for when the values are actually moved.
+   *
+   * @param k the number of positions to rotate to the left
+   * @throws IllegalArgumentException if k is negative
+   */
+  public void rotateLeft(int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k cannot be negative.");
+    }
+    if (size == 0) {
+      return;
+    }
+    k %= size;
+    if (k == 0) {
+      return;
+    }
+    modCount++;
+    offset += k;
+    if (offset >= size) {
+      offset -= size;
+    }
+  }
+
+  /**
+   * Multiplies every element by factor in place, with the usual int overflow wrap-around.
+   *
+   * @param factor the multiplier
+   */
+  public void scaleAll(int factor) {
+    int firstRun = firstRun();
+    IntBulkOps.scale(elements, head, head + firstRun, factor);
+    IntBulkOps.scale(elements, 0, size - firstRun, factor);
+  }
+
+  /**
+   * Adds delta to every element in place, with the usual int overflow wrap-around.
+   *
+   * @param delta the amount to add
+   */
+  public void addToAll(int delta) {
+    int firstRun = firstRun();
+    IntBulkOps.add(elements, head, head + firstRun, delta);
+    IntBulkOps.add(elements, 0, size - firstRun, delta);
+  }
+
+  /**
+   * Limits every element to the range [min, max] in place.
+   *
+   * @param min the smallest allowed value
+   * @param max the largest allowed value
+   * @throws IllegalArgumentException if min is greater than max
+   */
+  public void clampAll(int min, int max) {
+    int firstRun = firstRun();
+    IntBulkOps.clamp(elements, head, head + firstRun, min, max);
+    IntBulkOps.clamp(elements, 0, size - firstRun, min, max);
+  }
+
+  /**
+   * Copies the elements, front first, into a new array.
+   *
+   * @return the elements in queue order
+   */
+  public int[] toIntArray() {
+    int[] result = new int[size];
+    copyStored(offset, result, 0, size - offset);
+    copyStored(0, result, size - offset, offset);
+    return result;
+  }
+
+  // Moves the values so that the pending rotation becomes the stored order, with a zero offset.
+  private void settleRotation() {
+    int k = offset;
+    if (k == 0) {
+      return;
+    }
+    offset = 0;
+    if (size == elements.length) {
+      head = index(k);
+    } else if (k <= size - k) {
+      for (int i = 0; i < k; i++) {
+        elements[index(size)] = elements[head];
+        head = index(1);
+      }
+    } else {
+      for (int i = size - k; i > 0; i--) {
+        head = head == 0 ? elements.length - 1 : head - 1;
+        elements[head] = elements[index(size)];
+      }
+    }
+  }
+
+  // Removes the element at the given position in queue order, shifting the shorter side over it.
+  private void removeAt(int position) {
+    settleRotation();
+    if (position < size - 1 - position) {
+      for (int i = position; i > 0; i--) {
+        elements[index(i)] = elements[index(i - 1)];
+      }
+      head = index(1);
+    } else {
+      for (int i = position; i < size - 1; i++) {
+        elements[index(i)] = elements[index(i + 1)];
+      }
+    }
+    size--;
+    modCount++;
+  }
+
+  // Copies length stored elements, starting at stored position from, into target.
+  private void copyStored(int from, int[] target, int targetFrom, int length) {
+    int start = index(from);
+    int firstRun = Math.min(length, elements.length - start);
+    System.arraycopy(elements, start, target, targetFrom, firstRun);
+    System.arraycopy(elements, 0, target, targetFrom + firstRun, length - firstRun);
+  }
+
+  // The elements occupy elements[head, head + firstRun) followed by elements[0, size - firstRun).
+  // The bulk transforms touch every element alike, so they can ignore a pending rotation.
+  private int firstRun() {
+    return Math.min(size, elements.length - head);
+  }
+
+  // Array index of the element at the given position in queue order.
+  private int logical(int position) {
+    int i = offset + position;
+    return index(i >= size ? i - size : i);
+  }
+
+  // Array index of the element at the given stored position, ignoring any pending rotation.
+  private int index(int position) {
+    int i = head + position;
+    return i >= elements.length ? i - elements.length : i;
+  }
+
+  private void grow() {
+    int[] grown = Arrays.copyOf(toIntArray(), Math.max(elements.length * 2, 1));
+    elements = grown;
+    head = 0;
+  }
+}
@@ -0,0 +1,292 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Random;
+
+public class IntRingQueueTest {
+
+    // ----------------------------------------------------------------------
+    // offer / poll / peek
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testFifoOrderAcrossGrowthAndWrap() {
+        IntRingQueue queue = new IntRingQueue(2);
+        Queue<Integer> expected = new ArrayDeque<>();
+        for (int i = 0; i < 100; i++) {
+            queue.offerInt(i);
+            expected.add(i);
+            if (i % 3 == 0) {
+                assertEquals(expected.poll().intValue(), queue.pollInt());
+            }
+        }
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(queue));
+        assertEquals(expected.size(), queue.size());
+    }
+
+    @Test
+    void testBoxedQueueMethods() {
+        Queue<Integer> queue = new IntRingQueue();
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+        queue.add(4);
+        queue.offer(5);
+        assertEquals(Integer.valueOf(4), queue.peek());
+        assertEquals(Integer.valueOf(4), queue.remove());
+        assertEquals(Integer.valueOf(5), queue.poll());
+        assertTrue(queue.isEmpty());
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+
+    @Test
+    void testPrimitiveMethodsOnEmptyQueue() {
+        IntRingQueue queue = new IntRingQueue();
+        assertThrows(NoSuchElementException.class, queue::pollInt);
+        assertThrows(NoSuchElementException.class, queue::peekInt);
+    }
+
+    @Test
+    void testIteratorFailsFastAfterModification() {
+        IntRingQueue queue = IntRingQueue.of(1, 2);
+        Iterator<Integer> iterator = queue.iterator();
+        queue.offerInt(3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    // ----------------------------------------------------------------------
+    // removal through the Collection methods
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testIteratorRemoveMatchesArrayDeque() {
+        Random random = new Random(17);
+        for (int trial = 0; trial < 200; trial++) {
+            IntRingQueue queue = new IntRingQueue(random.nextInt(8));
+            ArrayDeque<Integer> expected = new ArrayDeque<>();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                int value = random.nextInt(10);
+                queue.offerInt(value);
+                expected.add(value);
+                if (random.nextInt(4) == 0) {
+                    queue.pollInt();
+                    expected.poll();
+                }
+            }
+            int k = random.nextInt(20);
+            queue.rotateLeft(k);
+            for (int i = 0; i < (expected.isEmpty() ? 0 : k % expected.size()); i++) {
+                expected.add(expected.poll());
+            }
+            Iterator<Integer> actualIterator = queue.iterator();
+            Iterator<Integer> expectedIterator = expected.iterator();
+            while (expectedIterator.hasNext()) {
+                assertEquals(expectedIterator.next(), actualIterator.next());
+                if (random.nextBoolean()) {
+                    actualIterator.remove();
+                    expectedIterator.remove();
+                }
+            }
+            assertFalse(actualIterator.hasNext());
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(queue), "trial " + trial);
+        }
+    }
+
+    @Test
+    void testIteratorRemoveRequiresNext() {
+        IntRingQueue queue = IntRingQueue.of(1, 2);
+        Iterator<Integer> iterator = queue.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertArrayEquals(new int[] {2}, queue.toIntArray());
+    }
+
+    @Test
+    void testRemoveObject() {
+        IntRingQueue queue = IntRingQueue.of(4, 7, 1, 7);
+        queue.rotateLeft(1);
+        assertTrue(queue.remove(Integer.valueOf(7)));
+        assertArrayEquals(new int[] {1, 7, 4}, queue.toIntArray());
+        assertFalse(queue.remove(Integer.valueOf(9)));
+        assertFalse(queue.remove("7"));
+    }
+
+    @Test
+    void testRemoveIf() {
+        IntRingQueue queue = new IntRingQueue(8);
+        for (int value = 1; value <= 7; value++) {
+            queue.offerInt(value);
+        }
+        queue.rotateLeft(3);
+        assertTrue(queue.removeIf(value -> value % 2 == 0));
+        assertArrayEquals(new int[] {5, 7, 1, 3}, queue.toIntArray());
+        assertFalse(queue.removeIf(value -> value > 10));
+        queue.offerInt(9);
+        assertArrayEquals(new int[] {5, 7, 1, 3, 9}, queue.toIntArray());
+    }
+
+    @Test
+    void testRemoveIfLeavesQueueUnchangedWhenFilterThrows() {
+        IntRingQueue queue = IntRingQueue.of(1, 2, 3);
+        assertThrows(IllegalStateException.class, () -> queue.removeIf(value -> {
+            if (value == 3) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+        assertArrayEquals(new int[] {1, 2, 3}, queue.toIntArray());
+    }
+
+    @Test
+    void testRemoveAllAndRetainAll() {
+        IntRingQueue queue = IntRingQueue.of(3, 1, 4, 1, 5, 9, 2, 6);
+        assertTrue(queue.removeAll(Arrays.asList(1, 9)));
+        assertArrayEquals(new int[] {3, 4, 5, 2, 6}, queue.toIntArray());
+        assertTrue(queue.retainAll(Arrays.asList(2, 3, 4)));
+        assertArrayEquals(new int[] {3, 4, 2}, queue.toIntArray());
+        assertFalse(queue.retainAll(Arrays.asList(2, 3, 4)));
+        assertThrows(NullPointerException.class, () -> queue.removeAll(null));
+    }
+
+    // ----------------------------------------------------------------------
+    // rotateLeft(int k)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testRotateLeftFullBuffer() {
+        IntRingQueue queue = IntRingQueue.of(1, 2, 3, 4, 5);
+        queue.rotateLeft(2);
+        assertArrayEquals(new int[] {3, 4, 5, 1, 2}, queue.toIntArray());
+        queue.rotateLeft(13);
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, queue.toIntArray());
+    }
+
+    @Test
+    void testRotateLeftMatchesDequeueRequeue() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 200; trial++) {
+            IntRingQueue queue = new IntRingQueue(random.nextInt(8));
+            ArrayDeque<Integer> expected = new ArrayDeque<>();
+            int n = random.nextInt(20);
+            for (int i = 0; i < n; i++) {
+                queue.offerInt(i);
+                expected.add(i);
+            }
+            for (int i = random.nextInt(n + 1); i > 0; i--) {
+                queue.pollInt();
+                expected.poll();
+            }
+            int k = random.nextInt(50);
+            queue.rotateLeft(k);
+            for (int i = 0; i < (expected.isEmpty() ? 0 : k % expected.size()); i++) {
+                expected.add(expected.poll());
+            }
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(queue), "trial " + trial);
+        }
+    }
+
+    @Test
+    void testRotationsInterleavedWithOffersAndPolls() {
+        Random random = new Random(13);
+        IntRingQueue queue = new IntRingQueue(4);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        for (int step = 0; step < 5_000; step++) {
+            int action = random.nextInt(4);
+            if (action == 0) {
+                queue.offerInt(step);
+                expected.add(step);
+            } else if (action == 1 && !expected.isEmpty()) {
+                assertEquals(expected.poll().intValue(), queue.pollInt());
+            } else if (action == 2) {
+                int k = random.nextInt(40);
+                queue.rotateLeft(k);
+                for (int i = 0; i < (expected.isEmpty() ? 0 : k % expected.size()); i++) {
+                    expected.add(expected.poll());
+                }
+            } else {
+                assertEquals(expected.peek(), queue.peek());
+            }
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), queue.toIntArray(), "step " + step);
+        }
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(queue));
+    }
+
+    @Test
+    void testRotateLeftWithSpareCapacity() {
+        IntRingQueue queue = new IntRingQueue(8);
+        for (int value = 1; value <= 5; value++) {
+            queue.offerInt(value);
+        }
+        queue.rotateLeft(2);
+        queue.rotateLeft(4);
+        assertEquals(2, queue.peekInt());
+        assertArrayEquals(new int[] {2, 3, 4, 5, 1}, queue.toIntArray());
+        queue.offerInt(6);
+        assertArrayEquals(new int[] {2, 3, 4, 5, 1, 6}, queue.toIntArray());
+        assertEquals(2, queue.pollInt());
+    }
+
+    @Test
+    void testRotateLeftNegativeK() {
+        assertThrows(IllegalArgumentException.class, () -> IntRingQueue.of(1).rotateLeft(-1));
+    }
+
+    // ----------------------------------------------------------------------
+    // scaleAll(int factor)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testScaleAllAcrossWrap() {
+        IntRingQueue queue = new IntRingQueue(4);
+        queue.offerInt(9);
+        queue.offerInt(9);
+        queue.pollInt();
+        queue.pollInt();
+        for (int value : new int[] {5, 3, 2, 7}) {
+            queue.offerInt(value);
+        }
+        queue.scaleAll(3);
+        assertEquals(Arrays.asList(15, 9, 6, 21), new ArrayList<>(queue));
+    }
+
+    // ----------------------------------------------------------------------
+    // addToAll(int delta) / clampAll(int min, int max)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testAddToAllAndClampAllAcrossWrap() {
+        IntRingQueue queue = new IntRingQueue(4);
+        queue.offerInt(0);
+        queue.offerInt(0);
+        queue.offerInt(0);
+        queue.pollInt();
+        queue.pollInt();
+        queue.pollInt();
+        for (int value : new int[] {-5, 3, 20, 7}) {
+            queue.offerInt(value);
+        }
+        queue.addToAll(1);
+        assertArrayEquals(new int[] {-4, 4, 21, 8}, queue.toIntArray());
+        queue.clampAll(0, 10);
+        assertArrayEquals(new int[] {0, 4, 10, 8}, queue.toIntArray());
+        assertThrows(IllegalArgumentException.class, () -> queue.clampAll(5, 4));
+    }
+
+    @Test
+    void testBulkOpsOnEmptyQueue() {
+        IntRingQueue queue = new IntRingQueue();
+        queue.scaleAll(3);
+        queue.addToAll(3);
+        queue.clampAll(0, 1);
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,145 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only, memory-mapped view of a list saved by {@link ChainFile}.
+ *
+ * The values stay in the mapped file: {@link #length()}, {@link #countOccurrences()} and
+ * {@link #findNthElement(int)} answer the matching {@link Toolbox} queries without creating any nodes,
+ * and {@link #toSingleNode()} / {@link #toDoubleNode()} build nodes directly from the mapping without
+ * an intermediate {@code List<Integer>}. Files larger than 1 GiB are mapped in several windows.
+ */
+public class MappedChain {
+
+  // 2^28 ints per window keeps each mapping at 1 GiB, under the 2 GiB limit of one MappedByteBuffer.
+  private static final int WINDOW_SHIFT = 28;
+  private static final int WINDOW_MASK = (1 << WINDOW_SHIFT) - 1;
+
+  private final int kind;
+  private final int count;
+  private final IntBuffer[] windows;
+
+  MappedChain(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < ChainFile.HEADER_BYTES) {
+        throw new IOException("Not a chain file: " + file);
+      }
+      IntBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, ChainFile.HEADER_BYTES)
+          .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+      if (header.get(0) != ChainFile.MAGIC || header.get(1) != ChainFile.VERSION) {
+        throw new IOException("Not a chain file: " + file);
+      }
+      kind = header.get(2);
+      if (kind != ChainFile.SINGLE && kind != ChainFile.DOUBLE) {
+        throw new IOException("Unknown chain kind " + kind + ": " + file);
+      }
+      count = header.get(3);
+      if (count < 1 || size != ChainFile.HEADER_BYTES + (long) count * Integer.BYTES) {
+        throw new IOException("Corrupt chain file: " + file);
+      }
+
+      windows = new IntBuffer[((count - 1) >>> WINDOW_SHIFT) + 1];
+      for (int w = 0; w < windows.length; w++) {
+        long first = (long) w << WINDOW_SHIFT;
+        long ints = Math.min(1L << WINDOW_SHIFT, count - first);
+        windows[w] = channel.map(FileChannel.MapMode.READ_ONLY,
+            ChainFile.HEADER_BYTES + first * Integer.BYTES, ints * Integer.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+      }
+    }
+  }
+
+  /**
+   * Returns which node type the file was saved from.
+   *
+   * @return {@link ChainFile#SINGLE} or {@link ChainFile#DOUBLE}
+   */
+  public int kind() {
+    return kind;
+  }
+
+  /**
+   * Returns the number of saved values, read from the header in O(1).
+   *
+   * @return the length of the saved list
+   */
+  public int length() {
+    return count;
+  }
+
+  /**
+   * Returns the value of the nth node of the saved list.
+   *
+   * @param n the index of the node (0-based)
+   * @return the value at that index
+   * @throws IllegalArgumentException if n is negative
+   * @throws IndexOutOfBoundsException if n is not less than {@link #length()}
+   */
+  public int findNthElement(int n) {
+    if (n < 0) {
+      throw new IllegalArgumentException("n cannot be negative.");
+    }
+    if (n >= count) {
+      throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count);
+    }
+    return windows[n >>> WINDOW_SHIFT].get(n & WINDOW_MASK);
+  }
+
+  /**
+   * Counts the occurrences of the saved values.
+   *
+   * @return a map where the keys are the values in the list, and the values are the counts of occurrences
+   */
+  public IntIntHashMap countOccurrences() {
+    IntIntHashMap counts = new IntIntHashMap();
+    for (IntBuffer window : windows) {
+      for (int i = 0, limit = window.limit(); i < limit; i++) {
+        counts.addTo(window.get(i), 1);
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Builds a singly linked list holding the saved values.
+   *
+   * @return the head node of the new list
+   */
+  public SingleNode toSingleNode() {
+    SingleNode head = new SingleNode(windows[0].get(0));
+    SingleNode current = head;
+    for (int w = 0; w < windows.length; w++) {
+      IntBuffer window = windows[w];
+      for (int i = w == 0 ? 1 : 0, limit = window.limit(); i < limit; i++) {
+        current.next = new SingleNode(window.get(i));
+        current = current.next;
+      }
+    }
+    return head;
+  }
+
+  /**
+   * Builds a doubly linked list holding the saved values.
+   *
+   * @return the head node of the new list
+   */
+  public DoubleNode toDoubleNode() {
+    DoubleNode head = new DoubleNode(windows[0].get(0));
+    DoubleNode current = head;
+    for (int w = 0; w < windows.length; w++) {
+      IntBuffer window = windows[w];
+      for (int i = w == 0 ? 1 : 0, limit = window.limit(); i < limit; i++) {
+        DoubleNode node = new DoubleNode(window.get(i));
+        current.next = node;
+        node.prev = current;
+        current = node;
+      }
+    }
+    return head;
+  }
+}
@@ -0,0 +1,259 @@
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A small, dependency-free microbenchmark harness in the spirit of JMH.
+ *
+ * Each benchmark is a setup step and an operation. The setup runs before every invocation
+ * and is never timed, so it can rebuild state that the operation destroys. The harness first
+ * warms the operation up for a fixed time, then times individual invocations, then runs a
+ * separate pass that measures the bytes the operation allocates on the calling thread.
+ *
+ * Results are returned by value from the run methods so the benchmark classes decide how to print them;
+ * {@link Result#header()} and {@link Result#toString()} produce a fixed-width table.
+ */
+public class MicroBench {
+
+  private static final int MIN_INVOCATIONS = 5;
+  private static final int MAX_INVOCATIONS = 1_000_000;
+  private static final int ALLOCATION_SAMPLES = 50;
+
+  // Results are written here so the JIT cannot discard the benchmarked work.
+  private static volatile Object sink;
+
+  private final long warmupNanos;
+  private final long measureNanos;
+
+  /**
+   * Constructs a harness with half a second of warmup and one second of measurement per benchmark.
+   */
+  public MicroBench() {
+    this(500, 1000);
+  }
+
+  /**
+   * Constructs a harness with the given time budgets. Each phase always runs at least
+   * a handful of invocations, so slow operations may exceed the budget.
+   *
+   * @param warmupMillis how long to run the operation before measuring
+   * @param measureMillis how long to spend on timed invocations
+   * @throws IllegalArgumentException if either budget is negative
+   */
+  public MicroBench(long warmupMillis, long measureMillis) {
+    if (warmupMillis < 0 || measureMillis < 0) {
+      throw new IllegalArgumentException("Time budgets cannot be negative.");
+    }
+    this.warmupNanos = warmupMillis * 1_000_000L;
+    this.measureNanos = measureMillis * 1_000_000L;
+  }
+
+  /**
+   * Benchmarks an operation that does not need fresh state for every invocation.
+   *
+   * @param name the label to report
+   * @param size the input size to report
+   * @param state the input passed to every invocation
+   * @param operation the code to measure; its result is consumed so it cannot be optimized away
+   * @return the measured result
+   * @param <S> the type of the input
+   */
+  public <S> Result run(String name, long size, S state, Function<? super S, ?> operation) {
+    return runWithSetup(name, size, () -> state, operation);
+  }
+
+  /**
+   * Benchmarks an operation, calling setup before every invocation outside of the timed region.
+   *
+   * @param name the label to report
+   * @param size the input size to report
+   * @param setup produces the input for one invocation
+   * @param operation the code to measure; its result is consumed so it cannot be optimized away
+   * @return the measured result
+   * @param <S> the type of the input
+   * @throws IllegalArgumentException if setup or operation is null
+   */
+  public <S> Result runWithSetup(String name, long size, Supplier<? extends S> setup, Function<? super S, ?> operation) {
+    if (setup == null || operation == null) {
+      throw new IllegalArgumentException("Setup and operation cannot be null.");
+    }
+
+    long deadline = System.nanoTime() + warmupNanos;
+    for (int i = 0; i < MAX_INVOCATIONS && (i < MIN_INVOCATIONS || System.nanoTime() < deadline); i++) {
+      sink = operation.apply(setup.get());
+    }
+
+    long[] samples = new long[64];
+    int count = 0;
+    deadline = System.nanoTime() + measureNanos;
+    while (count < MAX_INVOCATIONS && (count < MIN_INVOCATIONS || System.nanoTime() < deadline)) {
+      S state = setup.get();
+      long start = System.nanoTime();
+      Object result = operation.apply(state);
+      long elapsed = System.nanoTime() - start;
+      sink = result;
+      if (count == samples.length) {
+        samples = Arrays.copyOf(samples, count * 2);
+      }
+      samples[count++] = elapsed;
+    }
+
+    long bytesPerOp = -1;
+    if (Allocation.SUPPORTED) {
+      int runs = Math.min(count, ALLOCATION_SAMPLES);
+      long total = 0;
+      for (int i = 0; i < runs; i++) {
+        S state = setup.get();
+        long before = Allocation.currentThreadBytes();
+        Object result = operation.apply(state);
+        total += Allocation.currentThreadBytes() - before - Allocation.OVERHEAD;
+        sink = result;
+      }
+      bytesPerOp = Math.max(0, total / runs);
+    }
+
+    return new Result(name, size, Arrays.copyOf(samples, count), bytesPerOp);
+  }
+
+  /**
+   * The measurements for one benchmark at one input size.
+   */
+  public static class Result {
+
+    /**
+     * The benchmark label.
+     */
+    public final String name;
+
+    /**
+     * The input size the benchmark ran at.
+     */
+    public final long size;
+
+    /**
+     * The number of timed invocations.
+     */
+    public final int invocations;
+
+    /**
+     * Timed invocations per second of time spent inside the operation.
+     */
+    public final double opsPerSecond;
+
+    /**
+     * The median invocation latency in nanoseconds.
+     */
+    public final long p50;
+
+    /**
+     * The 90th percentile invocation latency in nanoseconds.
+     */
+    public final long p90;
+
+    /**
+     * The 99th percentile invocation latency in nanoseconds.
+     */
+    public final long p99;
+
+    /**
+     * The 99.9th percentile invocation latency in nanoseconds.
+     */
+    public final long p999;
+
+    /**
+     * The slowest invocation in nanoseconds.
+     */
+    public final long max;
+
+    /**
+     * Average bytes allocated per invocation on the calling thread, or -1 if the JVM cannot report it.
+     */
+    public final long bytesPerOp;
+
+    Result(String name, long size, long[] samples, long bytesPerOp) {
+      this.name = name;
+      this.size = size;
+      this.invocations = samples.length;
+      this.bytesPerOp = bytesPerOp;
+
+      long total = 0;
+      for (long sample : samples) {
+        total += sample;
+      }
+      this.opsPerSecond = total == 0 ? Double.POSITIVE_INFINITY : samples.length * 1e9 / total;
+
+      long[] sorted = samples.clone();
+      Arrays.sort(sorted);
+      this.p50 = percentile(sorted, 0.50);
+      this.p90 = percentile(sorted, 0.90);
+      this.p99 = percentile(sorted, 0.99);
+      this.p999 = percentile(sorted, 0.999);
+      this.max = sorted[sorted.length - 1];
+    }
+
+    /**
+     * Returns the nearest-rank percentile of a sorted, non-empty array.
+     *
+     * @param sorted the samples in ascending order
+     * @param fraction the percentile as a fraction between 0 and 1
+     * @return the sample at that rank
+     */
+    static long percentile(long[] sorted, double fraction) {
+      int rank = (int) Math.ceil(fraction * sorted.length);
+      return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    /**
+     * Returns the column headings matching {@link #toString()}.
+     *
+     * @return the table header
+     */
+    public static String header() {
+      return String.format("%-24s %10s %8s %14s %11s %11s %11s %11s %11s %12s",
+          "benchmark", "size", "n", "ops/s", "p50 us", "p90 us", "p99 us", "p99.9 us", "max us", "B/op");
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%-24s %10d %8d %14.1f %11.2f %11.2f %11.2f %11.2f %11.2f %12d",
+          name, size, invocations, opsPerSecond,
+          p50 / 1e3, p90 / 1e3, p99 / 1e3, p999 / 1e3, max / 1e3, bytesPerOp);
+    }
+  }
+
+  // Holds the HotSpot-specific allocation counter so a missing com.sun.management only disables that column.
+  private static class Allocation {
+
+    static final com.sun.management.ThreadMXBean THREADS;
+    static final boolean SUPPORTED;
+    static final long OVERHEAD;
+
+    static {
+      com.sun.management.ThreadMXBean threads = null;
+      if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+          threads = null;
+        } else if (!threads.isThreadAllocatedMemoryEnabled()) {
+          threads.setThreadAllocatedMemoryEnabled(true);
+        }
+      }
+      THREADS = threads;
+      SUPPORTED = threads != null;
+
+      long overhead = Long.MAX_VALUE;
+      if (SUPPORTED) {
+        for (int i = 0; i < 1000; i++) {
+          long before = currentThreadBytes();
+          overhead = Math.min(overhead, currentThreadBytes() - before);
+        }
+      }
+      OVERHEAD = SUPPORTED ? overhead : 0;
+    }
+
+    static long currentThreadBytes() {
+      return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+  }
+}
@@ -0,0 +1,70 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MicroBenchTest {
+
+    // ----------------------------------------------------------------------
+    // run(...) / runWithSetup(...)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testRunCallsSetupBeforeEveryInvocation() {
+        AtomicInteger setups = new AtomicInteger();
+        AtomicInteger calls = new AtomicInteger();
+        MicroBench.Result result = new MicroBench(0, 0).runWithSetup("count", 10,
+            setups::incrementAndGet, s -> calls.incrementAndGet());
+        assertEquals(setups.get(), calls.get());
+        assertTrue(result.invocations >= 5);
+        assertEquals("count", result.name);
+        assertEquals(10, result.size);
+    }
+
+    @Test
+    void testRunReportsOrderedPercentiles() {
+        MicroBench.Result result = new MicroBench(0, 10).run("sum", 100, new int[100], a -> {
+            int sum = 0;
+            for (int value : a) {
+                sum += value;
+            }
+            return sum;
+        });
+        assertTrue(result.p50 <= result.p90);
+        assertTrue(result.p90 <= result.p99);
+        assertTrue(result.p99 <= result.p999);
+        assertTrue(result.p999 <= result.max);
+        assertTrue(result.opsPerSecond > 0);
+    }
+
+    @Test
+    void testRunMeasuresAllocation() {
+        MicroBench.Result result = new MicroBench(0, 0).run("alloc", 1024, 1024, n -> new long[n]);
+        if (result.bytesPerOp >= 0) {
+            assertTrue(result.bytesPerOp >= 8 * 1024, "allocated " + result.bytesPerOp);
+        }
+    }
+
+    @Test
+    void testRunNullOperation() {
+        assertThrows(IllegalArgumentException.class, () -> new MicroBench().run("x", 1, 1, null));
+    }
+
+    @Test
+    void testNegativeBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new MicroBench(-1, 0));
+    }
+
+    // ----------------------------------------------------------------------
+    // Result.percentile(long[] sorted, double fraction)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testPercentileNearestRank() {
+        long[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(5, MicroBench.Result.percentile(sorted, 0.50));
+        assertEquals(9, MicroBench.Result.percentile(sorted, 0.90));
+        assertEquals(10, MicroBench.Result.percentile(sorted, 0.999));
+        assertEquals(1, MicroBench.Result.percentile(sorted, 0.0));
+    }
+}
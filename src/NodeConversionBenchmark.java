@@ -0,0 +1,72 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compares the boxed {@code List<Integer>} conversions of {@link SingleNode} and {@link DoubleNode}
+ * with the int[], range and IntStream conversions, through {@link MicroBench}.
+ *
+ * Usage: {@code java NodeConversionBenchmark [--sizes=1000,10000] [--warmup=ms] [--measure=ms]}
+ *
+ * The B/op column is the interesting one. Building a list from an int[] or range should allocate
+ * exactly the nodes (24 bytes each for both node types with compressed oops) and no boxes. toIntArray should allocate only the result array, and summing
+ * through intStream() only a constant amount for the stream pipeline.
+ *
+ * The "par" and "parallel" rows run on the common pool. The parallel chain streams copy batches of
+ * values into arrays as they split, so they allocate about 4 bytes per value. The boxed toList baseline
+ * allocates far more, and the comparison with the sequential rows shows whether splitting pays off on
+ * this machine's core count.
+ */
+public class NodeConversionBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {1_000, 100_000, 1_000_000};
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    long warmup = 500;
+    long measure = 1000;
+    for (String arg : args) {
+      if (arg.startsWith("--sizes=")) {
+        sizes = Arrays.stream(arg.substring("--sizes=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Long.parseLong(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    MicroBench bench = new MicroBench(warmup, measure);
+    System.out.println(MicroBench.Result.header());
+    for (int size : sizes) {
+      int[] values = ToolboxBenchmark.values(size);
+      List<Integer> boxed = Arrays.stream(values).boxed().toList();
+      SingleNode single = SingleNode.fromArray(values);
+      DoubleNode dbl = DoubleNode.fromArray(values);
+
+      System.out.println(bench.run("SingleNode.fromList", size, boxed, SingleNode::fromList));
+      System.out.println(bench.run("SingleNode.fromArray", size, values, SingleNode::fromArray));
+      System.out.println(bench.run("SingleNode.fromRange", size, size, n -> SingleNode.fromRange(0, n)));
+      System.out.println(bench.run("SingleNode.toList", size, single, SingleNode::toList));
+      System.out.println(bench.run("SingleNode.toIntArray", size, single, head -> head.toIntArray()));
+      System.out.println(bench.run("SingleNode.toIntArray(n)", size, single, head -> head.toIntArray(size)));
+      System.out.println(bench.run("SingleNode.toList sum", size, single,
+          head -> head.toList().stream().mapToInt(Integer::intValue).sum()));
+      System.out.println(bench.run("SingleNode.intStream sum", size, single, head -> head.intStream().sum()));
+      System.out.println(bench.run("SingleNode.boxed par sum", size, single,
+          head -> head.toList().parallelStream().mapToInt(Integer::intValue).sum()));
+      System.out.println(bench.run("SingleNode.parallel sum", size, single, head -> head.parallelIntStream().sum()));
+      System.out.println(bench.run("SingleNode.sized par sum", size, single,
+          head -> StreamSupport.intStream(head.spliterator(size), true).sum()));
+
+      System.out.println(bench.run("DoubleNode.fromList", size, boxed, DoubleNode::fromList));
+      System.out.println(bench.run("DoubleNode.fromArray", size, values, DoubleNode::fromArray));
+      System.out.println(bench.run("DoubleNode.toList", size, dbl, DoubleNode::toList));
+      System.out.println(bench.run("DoubleNode.toIntArray", size, dbl, head -> head.toIntArray()));
+      System.out.println(bench.run("DoubleNode.intStream sum", size, dbl, head -> head.intStream().sum()));
+      System.out.println(bench.run("DoubleNode.parallel sum", size, dbl, head -> head.parallelIntStream().sum()));
+    }
+  }
+}
@@ -0,0 +1,222 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recycles list nodes so that workloads which constantly insert and remove nodes do not allocate a new
+ * object for every insert.
+ *
+ * Each thread keeps its own small free list, so {@link #acquire(int)} and {@link #release(Object)}
+ * normally touch no shared state. When a thread's free list is full, half of it moves to a shared
+ * overflow list; when it is empty, it refills from there before allocating. The overflow list is
+ * bounded, and nodes released beyond that bound are left to the garbage collector, so a burst of
+ * removals never pins an unbounded amount of memory.
+ *
+ * A released node must no longer be reachable from any list and must not be used again by the caller,
+ * exactly as with {@code free} in C: releasing a node twice, or releasing one that is still linked,
+ * corrupts whichever lists later receive it.
+ *
+ * @param <N> the node type, {@link SingleNode} or {@link DoubleNode}
+ */
+public final class NodePool<N> {
+
+  private static final int DEFAULT_LOCAL_CAPACITY = 256;
+  private static final int DEFAULT_GLOBAL_CAPACITY = 1 << 16;
+
+  // Creates nodes and clears the links of released ones.
+  private interface NodeType<N> {
+    N create(int data);
+
+    void clear(N node);
+
+    void setData(N node, int data);
+  }
+
+  private static final NodeType<SingleNode> SINGLE = new NodeType<>() {
+    @Override
+    public SingleNode create(int data) {
+      return new SingleNode(data);
+    }
+
+    @Override
+    public void clear(SingleNode node) {
+      node.next = null;
+    }
+
+    @Override
+    public void setData(SingleNode node, int data) {
+      node.data = data;
+    }
+  };
+
+  private static final NodeType<DoubleNode> DOUBLE = new NodeType<>() {
+    @Override
+    public DoubleNode create(int data) {
+      return new DoubleNode(data);
+    }
+
+    @Override
+    public void clear(DoubleNode node) {
+      node.next = null;
+      node.prev = null;
+    }
+
+    @Override
+    public void setData(DoubleNode node, int data) {
+      node.data = data;
+    }
+  };
+
+  private static final class FreeList {
+    final Object[] nodes;
+    int size;
+
+    FreeList(int capacity) {
+      nodes = new Object[capacity];
+    }
+  }
+
+  private final NodeType<N> type;
+  private final int localCapacity;
+  private final ThreadLocal<FreeList> local;
+  // Guarded by itself.
+  private final FreeList global;
+  private final LongAdder created = new LongAdder();
+
+  private NodePool(NodeType<N> type, int localCapacity, int globalCapacity) {
+    if (localCapacity < 2 || globalCapacity < 0) {
+      throw new IllegalArgumentException("Local capacity must be at least 2 and global capacity cannot be negative.");
+    }
+    this.type = type;
+    this.localCapacity = localCapacity;
+    this.local = ThreadLocal.withInitial(() -> new FreeList(localCapacity));
+    this.global = new FreeList(globalCapacity);
+  }
+
+  /**
+   * Creates a pool of {@link SingleNode}s with default capacities.
+   *
+   * @return a new, empty pool
+   */
+  public static NodePool<SingleNode> singleNodes() {
+    return singleNodes(DEFAULT_LOCAL_CAPACITY, DEFAULT_GLOBAL_CAPACITY);
+  }
+
+  /**
+   * Creates a pool of {@link SingleNode}s.
+   *
+   * @param localCapacity the most free nodes each thread keeps for itself
+   * @param globalCapacity the most free nodes kept in the shared overflow list
+   * @return a new, empty pool
+   * @throws IllegalArgumentException if localCapacity is less than 2 or globalCapacity is negative
+   */
+  public static NodePool<SingleNode> singleNodes(int localCapacity, int globalCapacity) {
+    return new NodePool<>(SINGLE, localCapacity, globalCapacity);
+  }
+
+  /**
+   * Creates a pool of {@link DoubleNode}s with default capacities.
+   *
+   * @return a new, empty pool
+   */
+  public static NodePool<DoubleNode> doubleNodes() {
+    return doubleNodes(DEFAULT_LOCAL_CAPACITY, DEFAULT_GLOBAL_CAPACITY);
+  }
+
+  /**
+   * Creates a pool of {@link DoubleNode}s.
+   *
+   * @param localCapacity the most free nodes each thread keeps for itself
+   * @param globalCapacity the most free nodes kept in the shared overflow list
+   * @return a new, empty pool
+   * @throws IllegalArgumentException if localCapacity is less than 2 or globalCapacity is negative
+   */
+  public static NodePool<DoubleNode> doubleNodes(int localCapacity, int globalCapacity) {
+    return new NodePool<>(DOUBLE, localCapacity, globalCapacity);
+  }
+
+  /**
+   * Returns an unlinked node holding value, reusing a released node when one is available.
+   *
+   * @param value the value to store in the node
+   * @return a node whose links are all null
+   */
+  @SuppressWarnings("unchecked")
+  public N acquire(int value) {
+    FreeList free = local.get();
+    if (free.size == 0) {
+      refill(free);
+    }
+    N node;
+    if (free.size > 0) {
+      node = (N) free.nodes[--free.size];
+      free.nodes[free.size] = null;
+      type.setData(node, value);
+    } else {
+      node = type.create(value);
+      created.increment();
+    }
+    return node;
+  }
+
+  /**
+   * Hands a node back to the pool for reuse. Its links are cleared.
+   *
+   * @param node a node that is no longer part of any list
+   * @throws IllegalArgumentException if node is null
+   */
+  public void release(N node) {
+    if (node == null) {
+      throw new IllegalArgumentException("Node cannot be null.");
+    }
+    type.clear(node);
+    FreeList free = local.get();
+    if (free.size == localCapacity) {
+      spill(free);
+    }
+    free.nodes[free.size++] = node;
+  }
+
+  /**
+   * Returns the number of nodes this pool has had to allocate because no free node was available.
+   *
+   * @return the number of nodes created so far
+   */
+  public long created() {
+    return created.sum();
+  }
+
+  /**
+   * Returns the number of free nodes in the shared overflow list.
+   *
+   * @return the overflow list's current size
+   */
+  public int globalSize() {
+    synchronized (global) {
+      return global.size;
+    }
+  }
+
+  // Moves up to half a local list's worth of nodes from the overflow list to an empty local list.
+  private void refill(FreeList free) {
+    synchronized (global) {
+      int moved = Math.min(global.size, localCapacity / 2);
+      global.size -= moved;
+      System.arraycopy(global.nodes, global.size, free.nodes, 0, moved);
+      Arrays.fill(global.nodes, global.size, global.size + moved, null);
+      free.size = moved;
+    }
+  }
+
+  // Moves the older half of a full local list to the overflow list, dropping what does not fit.
+  private void spill(FreeList free) {
+    int half = localCapacity / 2;
+    synchronized (global) {
+      int moved = Math.min(half, global.nodes.length - global.size);
+      System.arraycopy(free.nodes, 0, global.nodes, global.size, moved);
+      global.size += moved;
+    }
+    System.arraycopy(free.nodes, half, free.nodes, 0, free.size - half);
+    Arrays.fill(free.nodes, free.size - half, free.size, null);
+    free.size -= half;
+  }
+}
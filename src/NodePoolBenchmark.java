@@ -0,0 +1,79 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Measures garbage collection caused by insert/remove churn on a doubly linked list, with and without
+ * a {@link NodePool}.
+ *
+ * Usage: {@code java NodePoolBenchmark [live] [operations]}
+ *
+ * The list is used as a queue of {@code live} nodes: every operation unlinks the oldest node and links a
+ * new one at the tail. Without the pool every insert allocates; with it, the removed node comes back
+ * from the pool. GC counts and accumulated collection time come from the
+ * {@link GarbageCollectorMXBean}s, so run with a fixed heap (for example {@code -Xms1g -Xmx1g}) to
+ * compare like with like. The pooled variant unlinks with {@link DoubleNode#removeNode(DoubleNode,
+ * NodePool)}; the other writes the same unlink out.
+ */
+public class NodePoolBenchmark {
+
+  private static final int ROUNDS = 5;
+
+  private static volatile long sink;
+
+  public static void main(String[] args) {
+    int live = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    long operations = args.length > 1 ? Long.parseLong(args[1]) : 50_000_000L;
+
+    System.out.printf("%-10s %8s %12s %10s %10s %10s%n", "variant", "round", "operations", "time ms", "gc count", "gc ms");
+    for (int round = 0; round < ROUNDS; round++) {
+      run("new", round, live, operations, null);
+      run("pooled", round, live, operations, NodePool.doubleNodes());
+    }
+  }
+
+  private static void run(String name, int round, int live, long operations, NodePool<DoubleNode> pool) {
+    DoubleNode head = DoubleNode.fromRange(0, live);
+    DoubleNode tail = head;
+    while (tail.next != null) {
+      tail = tail.next;
+    }
+
+    long[] gcBefore = gcTotals();
+    long start = System.nanoTime();
+    for (long i = 0; i < operations; i++) {
+      DoubleNode added;
+      if (pool == null) {
+        DoubleNode removed = head;
+        head = removed.next;
+        head.prev = null;
+        removed.next = null;
+        added = new DoubleNode((int) i);
+      } else {
+        head = DoubleNode.removeNode(head, pool);
+        added = pool.acquire((int) i);
+      }
+      tail.next = added;
+      added.prev = tail;
+      tail = added;
+    }
+    long elapsed = System.nanoTime() - start;
+    long[] gcAfter = gcTotals();
+    sink += head.data + tail.data;
+
+    System.out.printf("%-10s %8d %12d %10.1f %10d %10d%n", name, round, operations, elapsed / 1e6,
+        gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+  }
+
+  // Total collection count and time in milliseconds across all collectors.
+  private static long[] gcTotals() {
+    List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    long count = 0;
+    long millis = 0;
+    for (GarbageCollectorMXBean collector : collectors) {
+      count += Math.max(collector.getCollectionCount(), 0);
+      millis += Math.max(collector.getCollectionTime(), 0);
+    }
+    return new long[] {count, millis};
+  }
+}
@@ -0,0 +1,123 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class NodePoolTest {
+
+    // ----------------------------------------------------------------------
+    // acquire / release
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testReleasedNodeIsReusedWithClearedLinks() {
+        NodePool<DoubleNode> pool = NodePool.doubleNodes();
+        DoubleNode node = pool.acquire(3);
+        assertEquals(3, node.data);
+        assertEquals(1, pool.created());
+
+        node.next = new DoubleNode(4);
+        node.prev = new DoubleNode(2);
+        pool.release(node);
+        DoubleNode reused = pool.acquire(9);
+        assertSame(node, reused);
+        assertEquals(9, reused.data);
+        assertNull(reused.next);
+        assertNull(reused.prev);
+        assertEquals(1, pool.created());
+    }
+
+    @Test
+    void testOverflowIsSharedAndBounded() throws InterruptedException {
+        NodePool<SingleNode> pool = NodePool.singleNodes(4, 6);
+        List<SingleNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            nodes.add(pool.acquire(i));
+        }
+        nodes.forEach(pool::release);
+        assertEquals(6, pool.globalSize());
+
+        // Another thread starts with an empty free list and refills from the overflow list.
+        Thread other = new Thread(() -> pool.acquire(0));
+        other.start();
+        other.join();
+        assertEquals(4, pool.globalSize());
+        assertEquals(20, pool.created());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> NodePool.singleNodes(1, 10));
+        assertThrows(IllegalArgumentException.class, () -> NodePool.doubleNodes(4, -1));
+        assertThrows(IllegalArgumentException.class, () -> NodePool.singleNodes().release(null));
+    }
+
+    // ----------------------------------------------------------------------
+    // pooled builders and removals
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testFromListReusesRemovedGiants() {
+        NodePool<SingleNode> pool = NodePool.singleNodes();
+        SingleNode head = SingleNode.fromList(Arrays.asList(5, 7, 6, 20, 4, 4), pool);
+        assertEquals(6, pool.created());
+        GiantRemover.removeGiants(head, pool);
+        assertEquals(List.of(5, 6, 4, 4), head.toList());
+
+        SingleNode other = SingleNode.fromList(Arrays.asList(1, 2, 3), pool);
+        assertEquals(List.of(1, 2, 3), other.toList());
+        assertEquals(7, pool.created());
+        assertEquals(List.of(5, 6, 4, 4), head.toList());
+    }
+
+    @Test
+    void testDoubleNodeFromListWithPool() {
+        NodePool<DoubleNode> pool = NodePool.doubleNodes();
+        DoubleNode head = DoubleNode.fromList(List.of(1, 2, 3), pool);
+        assertEquals(List.of(1, 2, 3), head.toList());
+        assertSame(head, head.next.prev);
+        assertThrows(IllegalArgumentException.class, () -> DoubleNode.fromList(List.of(1), null));
+    }
+
+    @Test
+    void testRemoveNodeRelinksNeighboursBeforeReuse() {
+        NodePool<DoubleNode> pool = NodePool.doubleNodes();
+        DoubleNode head = DoubleNode.fromList(List.of(1, 2, 3), pool);
+        DoubleNode middle = head.next;
+        DoubleNode tail = middle.next;
+        assertSame(tail, DoubleNode.removeNode(middle, pool));
+        assertSame(tail, head.next);
+        assertSame(head, tail.prev);
+
+        // The reused node goes into another list without touching the first one.
+        DoubleNode other = DoubleNode.fromList(List.of(7), pool);
+        assertSame(middle, other);
+        assertNull(other.prev);
+        assertNull(other.next);
+        assertEquals(List.of(1, 3), head.toList());
+        assertSame(head, head.next.prev);
+
+        assertNull(DoubleNode.removeNode(tail, pool));
+        assertNull(head.next);
+        assertEquals(List.of(1), head.toList());
+        assertThrows(IllegalArgumentException.class, () -> DoubleNode.removeNode(head, null));
+    }
+
+    @Test
+    void testInsertAfterTakesNodeFromPool() {
+        NodePool<SingleNode> pool = NodePool.singleNodes();
+        SingleNode head = SingleNode.fromList(Arrays.asList(1, 3), pool);
+        SingleNode released = pool.acquire(0);
+        pool.release(released);
+
+        SingleNode inserted = SingleNode.insertAfter(head, 2, pool);
+        assertSame(released, inserted);
+        assertEquals(List.of(1, 2, 3), head.toList());
+        SingleNode.insertAfter(head.next.next, 4, pool);
+        assertEquals(List.of(1, 2, 3, 4), head.toList());
+        assertEquals(4, pool.created());
+        assertThrows(IllegalArgumentException.class, () -> SingleNode.insertAfter(null, 1, pool));
+    }
+}
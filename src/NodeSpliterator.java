@@ -0,0 +1,113 @@
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * The traversal and batch splitting shared by {@link SingleNodeSpliterator} and
+ * {@link DoubleNodeSpliterator}, which differ only in their node type.
+ *
+ * A linked chain cannot be split in the middle without walking to it, so {@link #trySplit()} uses batch
+ * chunking, as the JDK does for iterators of unknown structure: each split copies the next batch of
+ * values into an {@code int[]} and hands that off as an array spliterator, keeping the rest of the chain.
+ * Batches grow by {@value #BATCH_UNIT} values per split, so a parallel stream starts working quickly on
+ * short chains and amortizes the copying on long ones.
+ *
+ * A sized spliterator reports {@link #SIZED} and {@link #SUBSIZED} with an exact {@link #estimateSize()},
+ * which lets streams pre-size results such as {@code toArray()}. Otherwise the size is reported as
+ * unknown ({@link Long#MAX_VALUE}).
+ *
+ * @param <N> the node type
+ */
+abstract class NodeSpliterator<N> implements Spliterator.OfInt {
+
+  static final int BATCH_UNIT = 1 << 10;
+  static final int MAX_BATCH = 1 << 25;
+
+  private N current;
+  // Exact when sized; Long.MAX_VALUE otherwise.
+  private long remaining;
+  private final boolean sized;
+  private int batch;
+
+  // An unsized spliterator over the chain starting at head.
+  NodeSpliterator(N head) {
+    this.current = head;
+    this.remaining = Long.MAX_VALUE;
+    this.sized = false;
+  }
+
+  // A sized spliterator over the first length nodes of the chain starting at head.
+  NodeSpliterator(N head, long length) {
+    if (length < 0) {
+      throw new IllegalArgumentException("Length cannot be negative.");
+    }
+    this.current = head;
+    this.remaining = length;
+    this.sized = true;
+  }
+
+  // Returns the node after the given one, or null at the end of the chain.
+  abstract N next(N node);
+
+  // Returns the value stored in the given node.
+  abstract int data(N node);
+
+  @Override
+  public boolean tryAdvance(IntConsumer action) {
+    if (action == null) {
+      throw new NullPointerException();
+    }
+    if (current == null || remaining == 0) {
+      return false;
+    }
+    int value = data(current);
+    current = next(current);
+    remaining--;
+    action.accept(value);
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(IntConsumer action) {
+    if (action == null) {
+      throw new NullPointerException();
+    }
+    N node = current;
+    long left = remaining;
+    current = null;
+    remaining = 0;
+    for (; node != null && left > 0; node = next(node), left--) {
+      action.accept(data(node));
+    }
+  }
+
+  @Override
+  public Spliterator.OfInt trySplit() {
+    if (current == null || remaining <= 1) {
+      return null;
+    }
+    int n = (int) Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+    int[] values = new int[n];
+    int j = 0;
+    N node = current;
+    for (; j < n && node != null; j++, node = next(node)) {
+      values[j] = data(node);
+    }
+    current = node;
+    if (sized) {
+      remaining -= j;
+    }
+    batch = j;
+    return Spliterators.spliterator(values, 0, j, ORDERED | NONNULL);
+  }
+
+  @Override
+  public long estimateSize() {
+    return current == null ? 0 : remaining;
+  }
+
+  @Override
+  public int characteristics() {
+    return sized ? ORDERED | NONNULL | SIZED | SUBSIZED : ORDERED | NONNULL;
+  }
+}
@@ -0,0 +1,133 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts value occurrences in singly linked lists into an {@link IntIntHashMap}.
+ *
+ * This is the boxing-free counterpart of {@link Toolbox#countOccurrences(SingleNode)}.
+ * Passing the same map to {@link #countOccurrences(SingleNode, IntIntHashMap)} on every call
+ * (clearing it in between) keeps the steady-state allocation at zero regardless of list length.
+ *
+ * The parallel variants split the chain with {@link ChainSegments}, count each segment on a
+ * {@link ForkJoinPool} and merge the per-segment maps pairwise.
+ */
+public class OccurrenceCounter {
+
+  // Several segments per thread lets work stealing even out uneven segment costs.
+  private static final int SEGMENTS_PER_THREAD = 4;
+
+  private OccurrenceCounter() {
+  }
+
+  /**
+   * Counts the occurrences of values in a linked list into a new map.
+   *
+   * @param head the head node of the linked list
+   * @return a map where the keys are the values in the list, and the values are the counts of occurrences
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static IntIntHashMap countOccurrences(SingleNode head) {
+    return countOccurrences(head, new IntIntHashMap());
+  }
+
+  /**
+   * Adds the occurrences of values in a linked list to an existing map.
+   * Counts already in the map are added to, not replaced.
+   *
+   * @param head the head node of the linked list
+   * @param counts the map to add the counts to
+   * @return counts, for chaining
+   * @throws IllegalArgumentException if the head or counts is null
+   */
+  public static IntIntHashMap countOccurrences(SingleNode head, IntIntHashMap counts) {
+    if (head == null || counts == null) {
+      throw new IllegalArgumentException("Head and counts cannot be null.");
+    }
+    for (SingleNode current = head; current != null; current = current.next) {
+      counts.addTo(current.data, 1);
+    }
+    return counts;
+  }
+
+  /**
+   * Counts the occurrences of values in a linked list using the common fork-join pool.
+   *
+   * @param head the head node of the linked list
+   * @return a map where the keys are the values in the list, and the values are the counts of occurrences
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static IntIntHashMap countOccurrencesParallel(SingleNode head) {
+    return countOccurrencesParallel(head, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Counts the occurrences of values in a linked list on the given pool.
+   * The chain is walked once on the calling thread to find the split points.
+   *
+   * @param head the head node of the linked list
+   * @param pool the pool to run the segment counts on
+   * @return a map where the keys are the values in the list, and the values are the counts of occurrences
+   * @throws IllegalArgumentException if the head or pool is null
+   */
+  public static IntIntHashMap countOccurrencesParallel(SingleNode head, ForkJoinPool pool) {
+    if (head == null || pool == null) {
+      throw new IllegalArgumentException("Head and pool cannot be null.");
+    }
+    return countOccurrencesParallel(ChainSegments.of(head, pool.getParallelism() * SEGMENTS_PER_THREAD), pool);
+  }
+
+  /**
+   * Counts the occurrences of values in a linked list that has already been split into segments.
+   * Reusing one {@link ChainSegments} for repeated counts of an unchanged chain skips the split pass.
+   *
+   * @param segments the split points of the chain
+   * @param pool the pool to run the segment counts on
+   * @return a map where the keys are the values in the list, and the values are the counts of occurrences
+   * @throws IllegalArgumentException if segments or pool is null
+   */
+  public static IntIntHashMap countOccurrencesParallel(ChainSegments segments, ForkJoinPool pool) {
+    if (segments == null || pool == null) {
+      throw new IllegalArgumentException("Segments and pool cannot be null.");
+    }
+    return pool.invoke(new SegmentCount(segments, 0, segments.count()));
+  }
+
+  private static class SegmentCount extends RecursiveTask<IntIntHashMap> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ChainSegments segments;
+    private final int from;
+    private final int to;
+
+    SegmentCount(ChainSegments segments, int from, int to) {
+      this.segments = segments;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected IntIntHashMap compute() {
+      if (to - from == 1) {
+        IntIntHashMap counts = new IntIntHashMap();
+        SingleNode current = segments.start(from);
+        for (long i = segments.length(from); i > 0; i--) {
+          counts.addTo(current.data, 1);
+          current = current.next;
+        }
+        return counts;
+      }
+      int middle = (from + to) >>> 1;
+      SegmentCount right = new SegmentCount(segments, middle, to);
+      right.fork();
+      IntIntHashMap left = new SegmentCount(segments, from, middle).compute();
+      IntIntHashMap other = right.join();
+      if (left.size() < other.size()) {
+        other.merge(left);
+        return other;
+      }
+      left.merge(other);
+      return left;
+    }
+  }
+}
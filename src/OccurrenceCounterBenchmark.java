@@ -0,0 +1,86 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares boxed and primitive occurrence counting through {@link MicroBench}.
+ *
+ * Usage: {@code java OccurrenceCounterBenchmark [--sizes=1000,10000] [--warmup=ms] [--measure=ms]}
+ *
+ * The boxed baseline is the {@code HashMap.merge} loop that {@link Toolbox#countOccurrences(SingleNode)}
+ * is expected to run. The B/op column shows how allocation grows with list length for each variant.
+ *
+ * The parallel rows run {@link OccurrenceCounter#countOccurrencesParallel(SingleNode, ForkJoinPool)} on pools
+ * of 1, 2, 4, ... threads up to the number of available processors. "split" rows include the sequential
+ * split pass; "presplit" rows reuse a {@link ChainSegments} built once. The size at which "parallel" first
+ * beats "primitive reused map" is where the parallel mode starts to pay off on this machine.
+ */
+public class OccurrenceCounterBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    long warmup = 500;
+    long measure = 1000;
+    for (String arg : args) {
+      if (arg.startsWith("--sizes=")) {
+        sizes = Arrays.stream(arg.substring("--sizes=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Long.parseLong(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    MicroBench bench = new MicroBench(warmup, measure);
+    System.out.println(MicroBench.Result.header());
+    for (int size : sizes) {
+      SingleNode head = ToolboxBenchmark.singleChain(size);
+      IntIntHashMap reused = new IntIntHashMap();
+
+      System.out.println(bench.run("boxed HashMap", size, head, OccurrenceCounterBenchmark::countBoxed));
+      System.out.println(bench.run("primitive new map", size, head, OccurrenceCounter::countOccurrences));
+      System.out.println(bench.run("primitive reused map", size, head, h -> {
+        reused.clear();
+        return OccurrenceCounter.countOccurrences(h, reused);
+      }));
+
+      for (int threads : threadCounts()) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+          ChainSegments segments = ChainSegments.of(head, threads * 4);
+          System.out.println(bench.run("parallel split p" + threads, size, head,
+              h -> OccurrenceCounter.countOccurrencesParallel(h, pool)));
+          System.out.println(bench.run("parallel presplit p" + threads, size, segments,
+              s -> OccurrenceCounter.countOccurrencesParallel(s, pool)));
+        } finally {
+          pool.shutdown();
+        }
+      }
+    }
+  }
+
+  private static int[] threadCounts() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    int[] counts = new int[32 - Integer.numberOfLeadingZeros(processors) + 1];
+    int n = 0;
+    for (int threads = 1; threads < processors; threads *= 2) {
+      counts[n++] = threads;
+    }
+    counts[n++] = processors;
+    return Arrays.copyOf(counts, n);
+  }
+
+  private static Map<Integer, Integer> countBoxed(SingleNode head) {
+    Map<Integer, Integer> counts = new HashMap<>();
+    for (SingleNode current = head; current != null; current = current.next) {
+      counts.merge(current.data, 1, Integer::sum);
+    }
+    return counts;
+  }
+}
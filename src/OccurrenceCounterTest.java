@@ -0,0 +1,75 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+public class OccurrenceCounterTest {
+
+    // ----------------------------------------------------------------------
+    // countOccurrences(SingleNode head)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testCountOccurrences() {
+        SingleNode head = SingleNode.fromList(Arrays.asList(5, 12, 5, 3, 5, 12));
+        assertEquals(Map.of(5, 3, 12, 2, 3, 1), OccurrenceCounter.countOccurrences(head).toMap());
+    }
+
+    @Test
+    void testCountOccurrencesAccumulates() {
+        IntIntHashMap counts = new IntIntHashMap();
+        counts.put(8, 1);
+        OccurrenceCounter.countOccurrences(SingleNode.fromList(Arrays.asList(8, 8, 0)), counts);
+        assertEquals(Map.of(8, 3, 0, 1), counts.toMap());
+    }
+
+    @Test
+    void testCountOccurrencesNullHead() {
+        assertThrows(IllegalArgumentException.class, () -> OccurrenceCounter.countOccurrences(null));
+    }
+
+    // ----------------------------------------------------------------------
+    // countOccurrencesParallel(SingleNode head, ForkJoinPool pool)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testCountOccurrencesParallelMatchesSequential() {
+        SingleNode head = chain(new Random(39), 100_003);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(OccurrenceCounter.countOccurrences(head).toMap(),
+                OccurrenceCounter.countOccurrencesParallel(head, pool).toMap());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testCountOccurrencesParallelShortList() {
+        SingleNode head = SingleNode.fromList(Arrays.asList(5, 12, 5));
+        assertEquals(Map.of(5, 2, 12, 1), OccurrenceCounter.countOccurrencesParallel(head).toMap());
+    }
+
+    @Test
+    void testCountOccurrencesParallelWithPrecomputedSegments() {
+        SingleNode head = chain(new Random(57), 10_000);
+        ChainSegments segments = ChainSegments.of(head, 7);
+        assertEquals(OccurrenceCounter.countOccurrences(head).toMap(),
+            OccurrenceCounter.countOccurrencesParallel(segments, ForkJoinPool.commonPool()).toMap());
+    }
+
+    @Test
+    void testCountOccurrencesParallelNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> OccurrenceCounter.countOccurrencesParallel((SingleNode) null));
+        assertThrows(IllegalArgumentException.class,
+            () -> OccurrenceCounter.countOccurrencesParallel(new SingleNode(1), null));
+    }
+
+    private static SingleNode chain(Random random, int length) {
+        return SingleNode.fromList(random.ints(length, 0, 1024).boxed().collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,279 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A singly linked list container that keeps its head, tail and size current, so
+ * {@link #length()} and {@link #tail()} are O(1) instead of the O(n) walks of
+ * {@link Toolbox#length(SingleNode)} and {@link Toolbox#findTail(SingleNode)}.
+ *
+ * The cached fields are only correct while every change goes through this container.
+ * Use {@link #adopt(SingleNode)} to take over an existing chain and {@link #detach()} to hand
+ * the chain back out for raw {@link SingleNode} manipulation.
+ */
+public class SingleList {
+
+  private SingleNode head;
+  private SingleNode tail;
+  private int size;
+
+  /**
+   * Constructs an empty list.
+   */
+  public SingleList() {
+  }
+
+  /**
+   * Constructs a list that adopts an existing chain.
+   *
+   * @param head the head node of the chain to adopt
+   * @throws IllegalArgumentException if the head is null
+   */
+  public SingleList(SingleNode head) {
+    adopt(head);
+  }
+
+  /**
+   * Takes over an existing chain, replacing the current contents. Walks the chain once to find
+   * its tail and length.
+   *
+   * @param head the head node of the chain to adopt
+   * @throws IllegalArgumentException if the head is null
+   */
+  public void adopt(SingleNode head) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    SingleNode last = head;
+    int count = 1;
+    while (last.next != null) {
+      last = last.next;
+      count++;
+    }
+    this.head = head;
+    this.tail = last;
+    this.size = count;
+  }
+
+  /**
+   * Empties this list and returns its chain, which the caller may then modify freely.
+   *
+   * @return the head node of the chain, or null if the list was empty
+   */
+  public SingleNode detach() {
+    SingleNode detached = head;
+    head = null;
+    tail = null;
+    size = 0;
+    return detached;
+  }
+
+  /**
+   * Returns the first node.
+   *
+   * @return the head node, or null if the list is empty
+   */
+  public SingleNode head() {
+    return head;
+  }
+
+  /**
+   * Returns the last node in O(1).
+   *
+   * @return the tail node, or null if the list is empty
+   */
+  public SingleNode tail() {
+    return tail;
+  }
+
+  /**
+   * Returns the number of nodes in O(1).
+   *
+   * @return the number of nodes in the list
+   */
+  public int length() {
+    return size;
+  }
+
+  /**
+   * Returns whether the list has no nodes.
+   *
+   * @return true if the list is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Inserts a node at the front of the list.
+   *
+   * @param node the node to insert; its next reference is overwritten
+   * @throws IllegalArgumentException if the node is null
+   */
+  public void addFirst(SingleNode node) {
+    if (node == null) {
+      throw new IllegalArgumentException("Node cannot be null.");
+    }
+    node.next = head;
+    head = node;
+    if (tail == null) {
+      tail = node;
+    }
+    size++;
+  }
+
+  /**
+   * Appends a node at the end of the list in O(1).
+   *
+   * @param node the node to append; its next reference is overwritten
+   * @throws IllegalArgumentException if the node is null
+   */
+  public void append(SingleNode node) {
+    if (node == null) {
+      throw new IllegalArgumentException("Node cannot be null.");
+    }
+    node.next = null;
+    if (tail == null) {
+      head = node;
+    } else {
+      tail.next = node;
+    }
+    tail = node;
+    size++;
+  }
+
+  /**
+   * Appends a new node holding the given value.
+   *
+   * @param value the value to append
+   * @return the new node
+   */
+  public SingleNode append(int value) {
+    SingleNode node = new SingleNode(value);
+    append(node);
+    return node;
+  }
+
+  /**
+   * Inserts newNode directly after node, which must belong to this list.
+   *
+   * @param node the node after which newNode is inserted
+   * @param newNode the new node to insert
+   * @throws IllegalArgumentException if either node or newNode is null
+   */
+  public void insertNode(SingleNode node, SingleNode newNode) {
+    if (node == null || newNode == null) {
+      throw new IllegalArgumentException("Node and newNode cannot be null.");
+    }
+    newNode.next = node.next;
+    node.next = newNode;
+    if (node == tail) {
+      tail = newNode;
+    }
+    size++;
+  }
+
+  /**
+   * Removes the first node.
+   *
+   * @return the removed node, with its next reference cleared
+   * @throws IllegalStateException if the list is empty
+   */
+  public SingleNode removeFirst() {
+    if (head == null) {
+      throw new IllegalStateException("List is empty.");
+    }
+    SingleNode removed = head;
+    head = removed.next;
+    if (head == null) {
+      tail = null;
+    }
+    removed.next = null;
+    size--;
+    return removed;
+  }
+
+  /**
+   * Removes the node directly after node, which must belong to this list.
+   *
+   * @param node the node whose successor is removed
+   * @return the removed node with its next reference cleared, or null if node is the tail
+   * @throws IllegalArgumentException if the node is null
+   */
+  public SingleNode removeAfter(SingleNode node) {
+    if (node == null) {
+      throw new IllegalArgumentException("Node cannot be null.");
+    }
+    SingleNode removed = node.next;
+    if (removed == null) {
+      return null;
+    }
+    node.next = removed.next;
+    if (removed == tail) {
+      tail = node;
+    }
+    removed.next = null;
+    size--;
+    return removed;
+  }
+
+  /**
+   * Finds the nth node.
+   *
+   * @param n the index of the node to find (0-based)
+   * @return the nth node, or null if the index is out of bounds
+   * @throws IllegalArgumentException if n is negative
+   */
+  public SingleNode findNthElement(int n) {
+    if (n < 0) {
+      throw new IllegalArgumentException("n cannot be negative.");
+    }
+    if (n >= size) {
+      return null;
+    }
+    if (n == size - 1) {
+      return tail;
+    }
+    SingleNode current = head;
+    for (int i = 0; i < n; i++) {
+      current = current.next;
+    }
+    return current;
+  }
+
+  /**
+   * Removes all nodes that are strictly larger than their next neighbor in the original list,
+   * except for the head, and updates the cached tail and size.
+   *
+   * @see Toolbox#removeGiants(SingleNode)
+   */
+  public void removeGiants() {
+    if (head == null) {
+      return;
+    }
+    int[] removed = new int[1];
+    tail = GiantRemover.removeGiants(head, node -> removed[0]++);
+    size -= removed[0];
+  }
+
+  /**
+   * Returns a stream of the values in this list. Because the length is cached, the stream's
+   * spliterator is sized, which parallel streams use to split the work evenly and pre-size results.
+   *
+   * @param parallel true for a parallel stream
+   * @return an ordered stream of the values, which is empty if this list is empty
+   */
+  public IntStream intStream(boolean parallel) {
+    return StreamSupport.intStream(new SingleNodeSpliterator(head, size), parallel);
+  }
+
+  /**
+   * Converts this list into a Java List.
+   *
+   * @return a list containing the values of the nodes, which is empty if this list is empty
+   */
+  public List<Integer> toList() {
+    return head == null ? new ArrayList<>() : head.toList();
+  }
+}
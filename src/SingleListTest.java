@@ -0,0 +1,127 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class SingleListTest {
+
+    // ----------------------------------------------------------------------
+    // adopt / detach
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testAdoptFindsTailAndLength() {
+        SingleNode head = SingleNode.fromList(Arrays.asList(3, 1, 4, 1, 5));
+        SingleList list = new SingleList(head);
+        assertSame(head, list.head());
+        assertEquals(5, list.length());
+        assertEquals(5, list.tail().data);
+        assertNull(list.tail().next);
+    }
+
+    @Test
+    void testDetachEmptiesList() {
+        SingleNode head = SingleNode.fromList(Arrays.asList(1, 2));
+        SingleList list = new SingleList(head);
+        assertSame(head, list.detach());
+        assertTrue(list.isEmpty());
+        assertNull(list.head());
+        assertNull(list.tail());
+        assertNull(list.detach());
+    }
+
+    @Test
+    void testAdoptNullHead() {
+        assertThrows(IllegalArgumentException.class, () -> new SingleList(null));
+    }
+
+    // ----------------------------------------------------------------------
+    // insert / append / remove
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testAppendAndAddFirst() {
+        SingleList list = new SingleList();
+        list.append(2);
+        list.addFirst(new SingleNode(1));
+        list.append(new SingleNode(3, new SingleNode(99)));
+        assertEquals(Arrays.asList(1, 2, 3), list.toList());
+        assertEquals(3, list.length());
+        assertEquals(3, list.tail().data);
+    }
+
+    @Test
+    void testInsertNodeAfterTailUpdatesTail() {
+        SingleList list = new SingleList(SingleNode.fromList(Arrays.asList(1, 3)));
+        list.insertNode(list.head(), new SingleNode(2));
+        SingleNode last = new SingleNode(4);
+        list.insertNode(list.tail(), last);
+        assertEquals(Arrays.asList(1, 2, 3, 4), list.toList());
+        assertSame(last, list.tail());
+        assertEquals(4, list.length());
+    }
+
+    @Test
+    void testRemoveFirstAndRemoveAfter() {
+        SingleList list = new SingleList(SingleNode.fromList(Arrays.asList(1, 2, 3)));
+        assertEquals(1, list.removeFirst().data);
+        assertEquals(3, list.removeAfter(list.head()).data);
+        assertSame(list.head(), list.tail());
+        assertNull(list.removeAfter(list.tail()));
+        assertEquals(2, list.removeFirst().data);
+        assertTrue(list.isEmpty());
+        assertNull(list.tail());
+        assertThrows(IllegalStateException.class, list::removeFirst);
+    }
+
+    @Test
+    void testFindNthElement() {
+        SingleList list = new SingleList(SingleNode.fromList(Arrays.asList(10, 20, 30)));
+        assertEquals(20, list.findNthElement(1).data);
+        assertSame(list.tail(), list.findNthElement(2));
+        assertNull(list.findNthElement(3));
+        assertThrows(IllegalArgumentException.class, () -> list.findNthElement(-1));
+    }
+
+    // ----------------------------------------------------------------------
+    // removeGiants()
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testRemoveGiantsUpdatesSizeAndTail() {
+        SingleList list = new SingleList(SingleNode.fromList(Arrays.asList(5, 7, 6, 20, 4, 4)));
+        list.removeGiants();
+        assertEquals(List.of(5, 6, 4, 4), list.toList());
+        assertEquals(4, list.length());
+        assertEquals(4, list.tail().data);
+        assertNull(list.tail().next);
+    }
+
+    @Test
+    void testRemoveGiantsHeadNeverRemoved() {
+        SingleList list = new SingleList(SingleNode.fromList(Arrays.asList(10, 1, 2)));
+        list.removeGiants();
+        assertEquals(List.of(10, 1, 2), list.toList());
+        assertEquals(3, list.length());
+    }
+
+    @Test
+    void testRemoveGiantsEmptyList() {
+        SingleList list = new SingleList();
+        list.removeGiants();
+        assertTrue(list.isEmpty());
+    }
+
+    // ----------------------------------------------------------------------
+    // intStream
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testIntStreamIsSized() {
+        SingleList list = new SingleList(SingleNode.fromRange(0, 3_000));
+        assertEquals(3_000, list.intStream(false).spliterator().getExactSizeIfKnown());
+        assertEquals(3_000 * 2_999 / 2, list.intStream(true).sum());
+        assertEquals(0, new SingleList().intStream(true).count());
+    }
+}
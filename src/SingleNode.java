@@ -1,5 +1,10 @@
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a node in a singly linked list.
@@ -7,6 +12,9 @@ import java.util.List;
  */
 public class SingleNode {
 
+  // Some VMs reserve header words in arrays, so stay a little below Integer.MAX_VALUE like ArrayList.
+  static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
   /**
    * The integer value stored in this node.
    */
@@ -54,6 +62,105 @@ public class SingleNode {
     return result;
   }
 
+  /**
+   * Copies the values of the singly linked list starting at this node into an int array.
+   * The list is walked twice: once to count the nodes and once to copy them, so nothing is boxed
+   * and the array is allocated at its exact size.
+   *
+   * @return an array containing the values of the nodes in the linked list
+   * @throws IllegalStateException if the list has more nodes than an int array can hold
+   */
+  public int[] toIntArray() {
+    long length = 0;
+    for (SingleNode current = this; current != null; current = current.next) {
+      length++;
+    }
+    if (length > MAX_ARRAY_LENGTH) {
+      throw tooLongForArray();
+    }
+    return toIntArray((int) length);
+  }
+
+  /**
+   * Copies the values of the singly linked list starting at this node into an int array
+   * in a single walk, using a length the caller already knows (for example
+   * {@link MappedChain#length()}). If the list turns out to have a
+   * different length the result is still exact, at the cost of growing or trimming the array.
+   *
+   * @param knownLength the expected number of nodes
+   * @return an array containing the values of the nodes in the linked list
+   * @throws IllegalArgumentException if knownLength is negative
+   * @throws IllegalStateException if the list has more nodes than an int array can hold
+   */
+  public int[] toIntArray(int knownLength) {
+    if (knownLength < 0) {
+      throw new IllegalArgumentException("Known length cannot be negative.");
+    }
+    int[] result = new int[Math.min(Math.max(knownLength, 1), MAX_ARRAY_LENGTH)];
+    int size = 0;
+    for (SingleNode current = this; current != null; current = current.next) {
+      if (size == result.length) {
+        result = Arrays.copyOf(result, grownLength(size));
+      }
+      result[size++] = current.data;
+    }
+    return size == result.length ? result : Arrays.copyOf(result, size);
+  }
+  // Doubles the array, capped at the largest length VMs reliably allocate, like ArrayList.
+  static int grownLength(int length) {
+    if (length >= MAX_ARRAY_LENGTH) {
+      throw tooLongForArray();
+    }
+    return (int) Math.min(length * 2L, MAX_ARRAY_LENGTH);
+  }
+
+  private static IllegalStateException tooLongForArray() {
+    return new IllegalStateException("List is longer than the " + MAX_ARRAY_LENGTH + " values an int array can hold.");
+  }
+
+
+  /**
+   * Returns a sequential stream of the values of the singly linked list starting at this node.
+   * The values are not boxed. The stream reads the list lazily, so the list must not be changed
+   * until the stream has been consumed.
+   *
+   * @return an ordered stream of the values in the linked list
+   */
+  public IntStream intStream() {
+    return StreamSupport.intStream(spliterator(), false);
+  }
+
+  /**
+   * Returns a parallel stream of the values of the singly linked list starting at this node.
+   * The list is split into batches as described in {@link SingleNodeSpliterator}.
+   *
+   * @return an ordered, parallel stream of the values in the linked list
+   */
+  public IntStream parallelIntStream() {
+    return StreamSupport.intStream(spliterator(), true);
+  }
+
+  /**
+   * Returns a spliterator over the values of the singly linked list starting at this node,
+   * with an unknown size.
+   *
+   * @return a spliterator over the values in the linked list
+   */
+  public Spliterator.OfInt spliterator() {
+    return new SingleNodeSpliterator(this);
+  }
+
+  /**
+   * Returns a sized spliterator over the values of the first length nodes starting at this node.
+   *
+   * @param length the number of nodes to cover, which must not exceed the length of the list
+   * @return a spliterator reporting an exact size
+   * @throws IllegalArgumentException if length is negative
+   */
+  public Spliterator.OfInt spliterator(long length) {
+    return new SingleNodeSpliterator(this, length);
+  }
+
   /**
    * Constructs a singly linked list from a Java List.
    * The head of the list corresponds to the first element in the input list.
@@ -77,4 +184,126 @@ public class SingleNode {
 
     return head;
   }
+
+  /**
+   * Constructs a singly linked list from a Java List, taking the nodes from a pool.
+   * The head of the list corresponds to the first element in the input list.
+   *
+   * @param values a list of integers to convert into a singly linked list
+   * @param pool the pool to take nodes from
+   * @return the head node of the constructed singly linked list
+   * @throws IllegalArgumentException if the input list is null or empty, or the pool is null
+   */
+  public static SingleNode fromList(List<Integer> values, NodePool<SingleNode> pool) {
+    if (values == null || values.isEmpty() || pool == null) {
+      throw new IllegalArgumentException("Input list cannot be null or empty and pool cannot be null.");
+    }
+
+    SingleNode head = pool.acquire(values.get(0));
+    SingleNode current = head;
+
+    for (int i = 1; i < values.size(); i++) {
+      current.next = pool.acquire(values.get(i));
+      current = current.next;
+    }
+
+    return head;
+  }
+
+  /**
+   * Inserts a value into a singly linked list after the given node, taking the new node from a pool.
+   *
+   * @param node the node after which the value is to be inserted
+   * @param value the value to insert
+   * @param pool the pool to take the new node from
+   * @return the inserted node
+   * @throws IllegalArgumentException if the node or pool is null
+   */
+  public static SingleNode insertAfter(SingleNode node, int value, NodePool<SingleNode> pool) {
+    if (node == null || pool == null) {
+      throw new IllegalArgumentException("Node and pool cannot be null.");
+    }
+    SingleNode newNode = pool.acquire(value);
+    newNode.next = node.next;
+    node.next = newNode;
+    return newNode;
+  }
+
+  /**
+   * Constructs a singly linked list from an int array without boxing.
+   * The head of the list corresponds to the first element in the array.
+   *
+   * @param values the values to convert into a singly linked list
+   * @return the head node of the constructed singly linked list
+   * @throws IllegalArgumentException if the array is null or empty
+   */
+  public static SingleNode fromArray(int[] values) {
+    if (values == null || values.length == 0) {
+      throw new IllegalArgumentException("Input array cannot be null or empty.");
+    }
+
+    SingleNode head = new SingleNode(values[0]);
+    SingleNode current = head;
+
+    for (int i = 1; i < values.length; i++) {
+      current.next = new SingleNode(values[i]);
+      current = current.next;
+    }
+
+    return head;
+  }
+
+  /**
+   * Constructs a singly linked list holding the consecutive values from (inclusive) to
+   * to (exclusive), in increasing order.
+   *
+   * @param from the first value, inclusive
+   * @param to the end of the range, exclusive
+   * @return the head node of the constructed singly linked list
+   * @throws IllegalArgumentException if the range is empty
+   */
+  public static SingleNode fromRange(int from, int to) {
+    if (from >= to) {
+      throw new IllegalArgumentException("Range cannot be empty.");
+    }
+
+    SingleNode head = new SingleNode(from);
+    SingleNode current = head;
+
+    for (int value = from + 1; value < to; value++) {
+      current.next = new SingleNode(value);
+      current = current.next;
+    }
+
+    return head;
+  }
+
+  /**
+   * Constructs a singly linked list from the values of an IntStream, in encounter order,
+   * without boxing. The stream is consumed.
+   *
+   * @param values the stream of values to convert into a singly linked list
+   * @return the head node of the constructed singly linked list
+   * @throws IllegalArgumentException if the stream is null or empty
+   */
+  public static SingleNode fromStream(IntStream values) {
+    if (values == null) {
+      throw new IllegalArgumentException("Input stream cannot be null.");
+    }
+    PrimitiveIterator.OfInt iterator = values.iterator();
+    if (!iterator.hasNext()) {
+      throw new IllegalArgumentException("Input stream cannot be empty.");
+    }
+
+    SingleNode head = new SingleNode(iterator.nextInt());
+    SingleNode current = head;
+
+    while (iterator.hasNext()) {
+      int value = iterator.nextInt();
+      current.next = new SingleNode(value);
+      current = current.next;
+    }
+
+    return head;
+  }
 }
@@ -0,0 +1,44 @@
+/**
+ * A {@link java.util.Spliterator.OfInt Spliterator.OfInt} over the values of a chain of {@link SingleNode}s,
+ * following {@code next}.
+ *
+ * Each split copies the next batch of values into an array, with batches growing by
+ * {@value #BATCH_UNIT} values per split; see {@link NodeSpliterator}. When the chain's length is known,
+ * pass it to {@link #SingleNodeSpliterator(SingleNode, long)}: the spliterator then reports
+ * {@link #SIZED} and {@link #SUBSIZED} with an exact {@link #estimateSize()}, which lets streams pre-size
+ * results such as {@code toArray()}. Without it the size is reported as unknown ({@link Long#MAX_VALUE}).
+ *
+ * The chain must not be changed while it is being traversed.
+ */
+public class SingleNodeSpliterator extends NodeSpliterator<SingleNode> {
+
+  /**
+   * Creates a spliterator over a chain of unknown length.
+   *
+   * @param head the first node, or null for an empty spliterator
+   */
+  public SingleNodeSpliterator(SingleNode head) {
+    super(head);
+  }
+
+  /**
+   * Creates a sized spliterator over the first length nodes of a chain.
+   *
+   * @param head the first node, or null for an empty spliterator
+   * @param length the number of nodes to cover, which must not exceed the length of the chain
+   * @throws IllegalArgumentException if length is negative
+   */
+  public SingleNodeSpliterator(SingleNode head, long length) {
+    super(head, length);
+  }
+
+  @Override
+  SingleNode next(SingleNode node) {
+    return node.next;
+  }
+
+  @Override
+  int data(SingleNode node) {
+    return node.data;
+  }
+}
@@ -0,0 +1,92 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public class SingleNodeSpliteratorTest {
+
+    // ----------------------------------------------------------------------
+    // characteristics and sizes
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testUnknownSize() {
+        Spliterator.OfInt spliterator = SingleNode.fromRange(0, 5_000).spliterator();
+        assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        assertNotNull(spliterator.trySplit());
+        assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+    }
+
+    @Test
+    void testKnownSizeIsExactAfterSplits() {
+        Spliterator.OfInt spliterator = SingleNode.fromRange(0, 5_000).spliterator(5_000);
+        assertEquals(5_000, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        Spliterator.OfInt prefix = spliterator.trySplit();
+        assertEquals(SingleNodeSpliterator.BATCH_UNIT, prefix.getExactSizeIfKnown());
+        assertEquals(5_000 - prefix.estimateSize(), spliterator.getExactSizeIfKnown());
+        assertTrue(prefix.tryAdvance((int value) -> assertEquals(0, value)));
+    }
+
+    @Test
+    void testKnownLengthLimitsTraversal() {
+        int[] values = StreamSupport.intStream(SingleNode.fromRange(0, 10).spliterator(4), false).toArray();
+        assertArrayEquals(new int[] {0, 1, 2, 3}, values);
+    }
+
+    @Test
+    void testEmptySpliterator() {
+        Spliterator.OfInt spliterator = new SingleNodeSpliterator(null);
+        assertEquals(0, spliterator.estimateSize());
+        assertNull(spliterator.trySplit());
+        assertFalse(spliterator.tryAdvance((int value) -> fail()));
+    }
+
+    // ----------------------------------------------------------------------
+    // splitting
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testSplitsCoverChainInOrder() {
+        Spliterator.OfInt spliterator = SingleNode.fromRange(0, 10_000).spliterator();
+        List<Integer> seen = new ArrayList<>();
+        Spliterator.OfInt prefix;
+        while ((prefix = spliterator.trySplit()) != null) {
+            prefix.forEachRemaining((int value) -> seen.add(value));
+        }
+        spliterator.forEachRemaining((int value) -> seen.add(value));
+        List<Integer> expected = new ArrayList<>();
+        IntStream.range(0, 10_000).forEach(expected::add);
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void testParallelStreamMatchesSequential() {
+        int[] values = new Random(21).ints(100_000, 0, 1024).toArray();
+        SingleNode head = SingleNode.fromArray(values);
+        assertEquals(IntStream.of(values).sum(), head.parallelIntStream().sum());
+        assertArrayEquals(values, head.parallelIntStream().toArray());
+        assertArrayEquals(IntStream.of(values).map(v -> v * 3).toArray(),
+            StreamSupport.intStream(head.spliterator(values.length), true).map(v -> v * 3).toArray());
+    }
+
+    // ----------------------------------------------------------------------
+    // SingleNode streams
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testNodeStreams() {
+        SingleNode head = SingleNode.fromRange(0, 3_000);
+        assertArrayEquals(IntStream.range(0, 3_000).toArray(), head.parallelIntStream().toArray());
+        assertEquals(IntStream.range(0, 3_000).sum(), head.intStream().sum());
+        assertThrows(IllegalArgumentException.class, () -> new SingleNodeSpliterator(null, -1));
+    }
+}
@@ -2,6 +2,7 @@ import org.junit.Test;
 import static org.junit.Assert.*;
 import java.util.List;
 import java.util.Collections;
+import java.util.stream.IntStream;
 
 public class SingleNodeTest {
 
@@ -85,4 +86,60 @@ public class SingleNodeTest {
     assertThrows(IllegalArgumentException.class,
       () -> SingleNode.fromList(null)) ;
   }
+
+  @Test
+  public void testFromArrayToIntArrayRoundTrip() {
+    int[] values = {Integer.MAX_VALUE, -200, 0, 450, Integer.MIN_VALUE};
+    SingleNode head = SingleNode.fromArray(values);
+    assertEquals(List.of(Integer.MAX_VALUE, -200, 0, 450, Integer.MIN_VALUE), head.toList());
+    assertArrayEquals(values, head.toIntArray());
+  }
+
+  @Test
+  public void testFromArrayWithEmptyArray() {
+    assertThrows(IllegalArgumentException.class,
+      () -> SingleNode.fromArray(new int[0]));
+    assertThrows(IllegalArgumentException.class,
+      () -> SingleNode.fromArray(null));
+  }
+
+  @Test
+  public void testFromRange() {
+    SingleNode head = SingleNode.fromRange(-2, 3);
+    assertEquals(List.of(-2, -1, 0, 1, 2), head.toList());
+    assertThrows(IllegalArgumentException.class,
+      () -> SingleNode.fromRange(4, 4));
+  }
+
+  @Test
+  public void testToIntArrayWithWrongKnownLength() {
+    SingleNode head = SingleNode.fromRange(0, 10);
+    int[] expected = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+    assertArrayEquals(expected, head.toIntArray(10));
+    assertArrayEquals(expected, head.toIntArray(3));
+    assertArrayEquals(expected, head.toIntArray(0));
+    assertArrayEquals(expected, head.toIntArray(50));
+    assertThrows(IllegalArgumentException.class,
+      () -> head.toIntArray(-1));
+  }
+
+  @Test
+  public void testToIntArrayGrowthIsCapped() {
+    assertEquals(20, SingleNode.grownLength(10));
+    assertEquals(SingleNode.MAX_ARRAY_LENGTH, SingleNode.grownLength(1_500_000_000));
+    assertThrows(IllegalStateException.class,
+      () -> SingleNode.grownLength(SingleNode.MAX_ARRAY_LENGTH));
+  }
+
+  @Test
+  public void testIntStreamAndFromStream() {
+    SingleNode head = SingleNode.fromArray(new int[] {5, 7, 6, 20});
+    assertEquals(38, head.intStream().sum());
+    assertArrayEquals(new int[] {5, 7, 6, 20}, head.intStream().toArray());
+
+    SingleNode copy = SingleNode.fromStream(head.intStream().map(value -> value * 2));
+    assertEquals(List.of(10, 14, 12, 40), copy.toList());
+    assertThrows(IllegalArgumentException.class,
+      () -> SingleNode.fromStream(IntStream.empty()));
+  }
 }
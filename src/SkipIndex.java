@@ -0,0 +1,266 @@
+import java.util.SplittableRandom;
+
+/**
+ * A skip-list style index over an existing singly linked list that finds the nth node in
+ * O(log n) expected time instead of walking from the head.
+ *
+ * The chain itself is the bottom level. Above it, each node is given a tower of index entries
+ * whose height is chosen at random (each level with probability 1/2), and every entry records
+ * how many chain steps it spans to the next entry on its level. A lookup moves right while the
+ * span does not overshoot, drops a level, and finishes with a short walk along the chain.
+ *
+ * The index only knows about changes made through {@link #insertNode(int, SingleNode)}.
+ * If the chain is modified directly, lookups may return wrong nodes; {@link #isStale()} detects
+ * this and {@link #rebuild()} repairs it.
+ */
+public class SkipIndex {
+
+  private static final int MAX_LEVEL = 32;
+
+  private static class Entry {
+    final SingleNode node;
+    Entry right;
+    Entry down;
+    // Number of chain steps from node to right.node; unused when right is null.
+    int width;
+
+    Entry(SingleNode node, Entry down) {
+      this.node = node;
+      this.down = down;
+    }
+  }
+
+  private final SingleNode head;
+  private final SplittableRandom random;
+  // headTower[l] is the head's entry on level l; index 0 is unused because the chain is level 0.
+  private final Entry[] headTower = new Entry[MAX_LEVEL + 1];
+  private int levels;
+  private int size;
+
+  /**
+   * Builds an index over the chain starting at head. Building walks the chain once.
+   *
+   * @param head the head node of the singly linked list
+   * @throws IllegalArgumentException if the head is null
+   */
+  public SkipIndex(SingleNode head) {
+    this(head, new SplittableRandom());
+  }
+
+  /**
+   * Builds an index whose tower heights are drawn from the given seed, for reproducible layouts.
+   *
+   * @param head the head node of the singly linked list
+   * @param seed the seed for tower heights
+   * @throws IllegalArgumentException if the head is null
+   */
+  public SkipIndex(SingleNode head, long seed) {
+    this(head, new SplittableRandom(seed));
+  }
+
+  private SkipIndex(SingleNode head, SplittableRandom random) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    this.head = head;
+    this.random = random;
+    rebuild();
+  }
+
+  /**
+   * Returns the head of the indexed chain.
+   *
+   * @return the head node
+   */
+  public SingleNode head() {
+    return head;
+  }
+
+  /**
+   * Returns the number of nodes the index believes the chain has.
+   *
+   * @return the indexed length
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Discards the index and builds it again from the current state of the chain.
+   */
+  public void rebuild() {
+    for (int level = 1; level <= MAX_LEVEL; level++) {
+      headTower[level] = new Entry(head, level == 1 ? null : headTower[level - 1]);
+    }
+    Entry[] last = headTower.clone();
+    int[] lastPosition = new int[MAX_LEVEL + 1];
+    levels = 0;
+
+    int position = 1;
+    for (SingleNode current = head.next; current != null; current = current.next, position++) {
+      int height = randomHeight();
+      Entry below = null;
+      for (int level = 1; level <= height; level++) {
+        Entry entry = new Entry(current, below);
+        last[level].right = entry;
+        last[level].width = position - lastPosition[level];
+        last[level] = entry;
+        lastPosition[level] = position;
+        below = entry;
+      }
+      levels = Math.max(levels, height);
+    }
+    size = position;
+  }
+
+  /**
+   * Finds the nth node in the indexed chain.
+   *
+   * @param n the index of the node to find (0-based)
+   * @return the nth node, or null if the index is out of bounds
+   * @throws IllegalArgumentException if n is negative
+   */
+  public SingleNode findNthElement(int n) {
+    if (n < 0) {
+      throw new IllegalArgumentException("n cannot be negative.");
+    }
+    if (n >= size) {
+      return null;
+    }
+    SingleNode current = head;
+    int position = 0;
+    if (levels > 0) {
+      Entry entry = headTower[levels];
+      while (true) {
+        while (entry.right != null && position + entry.width <= n) {
+          position += entry.width;
+          entry = entry.right;
+        }
+        if (entry.down == null) {
+          break;
+        }
+        entry = entry.down;
+      }
+      current = entry.node;
+    }
+    for (; position < n; position++) {
+      current = current.next;
+    }
+    return current;
+  }
+
+  /**
+   * Inserts newNode into the chain directly after the node at the given index and updates the index.
+   * This has the same effect on the chain as
+   * {@code Toolbox.insertNode(findNthElement(index), newNode)} but runs in O(log n) expected time.
+   *
+   * @param index the index of the node after which newNode is inserted (0-based)
+   * @param newNode the new node to insert
+   * @throws IllegalArgumentException if newNode is null or index is out of bounds
+   */
+  public void insertNode(int index, SingleNode newNode) {
+    if (newNode == null || index < 0 || index >= size) {
+      throw new IllegalArgumentException("newNode cannot be null and index must be within the list.");
+    }
+    Entry[] predecessors = new Entry[MAX_LEVEL + 1];
+    int[] predecessorPositions = new int[MAX_LEVEL + 1];
+    for (int level = levels + 1; level <= MAX_LEVEL; level++) {
+      predecessors[level] = headTower[level];
+    }
+
+    Entry entry = headTower[Math.max(levels, 1)];
+    int position = 0;
+    for (int level = Math.max(levels, 1); level >= 1; level--) {
+      while (entry.right != null && position + entry.width <= index) {
+        position += entry.width;
+        entry = entry.right;
+      }
+      predecessors[level] = entry;
+      predecessorPositions[level] = position;
+      if (level > 1) {
+        entry = entry.down;
+      }
+    }
+
+    SingleNode node = entry.node;
+    for (; position < index; position++) {
+      node = node.next;
+    }
+    newNode.next = node.next;
+    node.next = newNode;
+
+    int newPosition = index + 1;
+    int height = randomHeight();
+    Entry below = null;
+    for (int level = 1; level <= MAX_LEVEL; level++) {
+      Entry predecessor = predecessors[level];
+      if (level <= height) {
+        Entry inserted = new Entry(newNode, below);
+        inserted.right = predecessor.right;
+        if (predecessor.right != null) {
+          inserted.width = predecessorPositions[level] + predecessor.width + 1 - newPosition;
+        }
+        predecessor.right = inserted;
+        predecessor.width = newPosition - predecessorPositions[level];
+        below = inserted;
+      } else if (level <= levels && predecessor.right != null) {
+        predecessor.width++;
+      }
+    }
+    levels = Math.max(levels, height);
+    size++;
+  }
+
+  /**
+   * Checks whether the chain still matches the index, which stops being true once the chain is
+   * changed without going through this index. This walks the whole chain and every index entry,
+   * so it costs O(n).
+   *
+   * @return true if the chain no longer matches the index
+   */
+  public boolean isStale() {
+    // The bottom index level must point at the right chain positions and the length must match.
+    Entry expected = headTower[1].right;
+    int expectedPosition = expected == null ? -1 : headTower[1].width;
+    int position = 0;
+    for (SingleNode current = head; current != null; current = current.next, position++) {
+      if (position > size) {
+        return true;
+      }
+      if (expected != null && position == expectedPosition) {
+        if (expected.node != current) {
+          return true;
+        }
+        expectedPosition += expected.width;
+        expected = expected.right;
+      }
+    }
+    if (position != size || expected != null) {
+      return true;
+    }
+
+    // Every higher entry must sit on top of the entry for the same node at the same position.
+    for (int level = 2; level <= levels; level++) {
+      Entry upper = headTower[level];
+      Entry lower = headTower[level - 1];
+      int upperPosition = 0;
+      int lowerPosition = 0;
+      while (upper != null) {
+        while (lower != null && lowerPosition < upperPosition) {
+          lowerPosition += lower.width;
+          lower = lower.right;
+        }
+        if (lower == null || lowerPosition != upperPosition || upper.down != lower || upper.node != lower.node) {
+          return true;
+        }
+        upperPosition += upper.width;
+        upper = upper.right;
+      }
+    }
+    return false;
+  }
+
+  private int randomHeight() {
+    return Math.min(Integer.numberOfTrailingZeros(random.nextInt()), MAX_LEVEL);
+  }
+}
@@ -0,0 +1,129 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class SkipIndexTest {
+
+    // ----------------------------------------------------------------------
+    // findNthElement(int n)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testFindNthElementMatchesWalk() {
+        SingleNode head = chain(5_000);
+        SkipIndex index = new SkipIndex(head, 1);
+        SingleNode current = head;
+        for (int i = 0; i < 5_000; i++) {
+            assertSame(current, index.findNthElement(i), "index " + i);
+            current = current.next;
+        }
+        assertEquals(5_000, index.size());
+    }
+
+    @Test
+    void testFindNthElementOutOfBounds() {
+        SkipIndex index = new SkipIndex(SingleNode.fromList(Arrays.asList(1, 2, 3)));
+        assertNull(index.findNthElement(3));
+        assertThrows(IllegalArgumentException.class, () -> index.findNthElement(-1));
+    }
+
+    @Test
+    void testSingleElement() {
+        SingleNode head = new SingleNode(9);
+        SkipIndex index = new SkipIndex(head);
+        assertSame(head, index.findNthElement(0));
+        assertNull(index.findNthElement(1));
+    }
+
+    @Test
+    void testNullHead() {
+        assertThrows(IllegalArgumentException.class, () -> new SkipIndex(null));
+    }
+
+    // ----------------------------------------------------------------------
+    // insertNode(int index, SingleNode newNode)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testInsertNodeSplicesChain() {
+        SingleNode head = SingleNode.fromList(Arrays.asList(1, 3));
+        SkipIndex index = new SkipIndex(head);
+        index.insertNode(0, new SingleNode(2));
+        index.insertNode(2, new SingleNode(4));
+        assertEquals(Arrays.asList(1, 2, 3, 4), head.toList());
+        assertEquals(4, index.findNthElement(3).data);
+        assertFalse(index.isStale());
+    }
+
+    @Test
+    void testRandomInsertsKeepIndexConsistent() {
+        Random random = new Random(3);
+        SingleNode head = new SingleNode(0);
+        SkipIndex index = new SkipIndex(head, 5);
+        List<SingleNode> expected = new ArrayList<>();
+        expected.add(head);
+        for (int i = 1; i <= 3_000; i++) {
+            int after = random.nextInt(expected.size());
+            SingleNode node = new SingleNode(i);
+            index.insertNode(after, node);
+            expected.add(after + 1, node);
+        }
+        assertFalse(index.isStale());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), index.findNthElement(i), "index " + i);
+        }
+    }
+
+    @Test
+    void testInsertNodeInvalidArguments() {
+        SkipIndex index = new SkipIndex(new SingleNode(1));
+        assertThrows(IllegalArgumentException.class, () -> index.insertNode(0, null));
+        assertThrows(IllegalArgumentException.class, () -> index.insertNode(1, new SingleNode(2)));
+    }
+
+    // ----------------------------------------------------------------------
+    // isStale() / rebuild()
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testDirectInsertMakesIndexStale() {
+        SingleNode head = chain(1_000);
+        SkipIndex index = new SkipIndex(head, 2);
+        assertFalse(index.isStale());
+
+        SingleNode node = head.next.next;
+        node.next = new SingleNode(-1, node.next);
+        assertTrue(index.isStale());
+
+        index.rebuild();
+        assertFalse(index.isStale());
+        assertEquals(-1, index.findNthElement(3).data);
+    }
+
+    @Test
+    void testDirectRemovalMakesIndexStale() {
+        SingleNode head = chain(1_000);
+        SkipIndex index = new SkipIndex(head, 2);
+        SingleNode node = index.findNthElement(500);
+        node.next = node.next.next;
+        assertTrue(index.isStale());
+    }
+
+    @Test
+    void testTruncationMakesIndexStale() {
+        SingleNode head = SingleNode.fromList(Arrays.asList(1, 2, 3));
+        SkipIndex index = new SkipIndex(head);
+        head.next.next = null;
+        assertTrue(index.isStale());
+    }
+
+    private static SingleNode chain(int length) {
+        return SingleNode.fromList(IntStream.range(0, length).boxed().collect(Collectors.toList()));
+    }
+}
@@ -130,6 +130,7 @@ public class Toolbox {
      * Only O(1) space should be used.
      * 
      * You can assume the queue will have first-in-first-out behavior.
+     * An {@link IntRingQueue} is tripled in place without boxing.
      *
      * Example:
      * Input: [5, 3, 2, 7] 
@@ -142,6 +143,10 @@ public class Toolbox {
       if (queue == null) {
         throw new IllegalArgumentException("Queue cannot be null");
       }
+      if (queue instanceof IntRingQueue) {
+        ((IntRingQueue) queue).scaleAll(3);
+        return;
+      }
       
     }
 
@@ -155,6 +160,7 @@ public class Toolbox {
    * Only O(1) space should be used.
    * 
    * You can assume the queue will have first-in-first-out behavior.
+   * An {@link IntRingQueue} is rotated in O(1) by recording an offset instead of moving elements.
    *
    * Example:
    * Given a queue [1, 2, 3, 4, 5] and k = 2, the result will be [3, 4, 5, 1, 2].
@@ -167,6 +173,10 @@ public class Toolbox {
     if (queue == null || k < 0) {
       throw new IllegalArgumentException("Queue cannot be null and k cannot be negative.");
     }
+    if (queue instanceof IntRingQueue) {
+      ((IntRingQueue) queue).rotateLeft(k);
+      return;
+    }
     
   }
 
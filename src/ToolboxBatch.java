@@ -0,0 +1,173 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Runs a {@link Toolbox} operation over many independent inputs on a work-stealing pool and returns
+ * the results in input order.
+ *
+ * The named shortcuts run the implemented equivalents of the Toolbox queries: {@link BracketValidator},
+ * {@link OccurrenceCounter} and {@link TopScorerIndex}. {@link #map(Collection, Function)} runs any other
+ * operation.
+ *
+ * Each batch is split into a few chunks per thread rather than one task per input, so the scheduling
+ * cost is paid per chunk and stays small next to calls that each take microseconds. Idle threads steal
+ * chunks from busy ones, which evens out inputs of very different sizes. At most {@code parallelism}
+ * inputs are processed at once.
+ *
+ * A batch object owns its pool; close it when it is no longer needed.
+ */
+public class ToolboxBatch implements AutoCloseable {
+
+  // Several chunks per thread lets work stealing even out uneven chunk costs.
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a batch runner using one thread per available processor.
+   */
+  public ToolboxBatch() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a batch runner with the given parallelism limit.
+   *
+   * @param parallelism the most inputs processed at the same time
+   * @throws IllegalArgumentException if parallelism is less than 1
+   */
+  public ToolboxBatch(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive.");
+    }
+    this.pool = new ForkJoinPool(parallelism);
+  }
+
+  /**
+   * Returns the parallelism limit.
+   *
+   * @return the most inputs processed at the same time
+   */
+  public int parallelism() {
+    return pool.getParallelism();
+  }
+
+  /**
+   * Runs {@link BracketValidator#hasBalancedParentheses(CharSequence)} on every input.
+   *
+   * @param inputs the strings to check
+   * @return the results, in the same order as the inputs
+   * @throws IllegalArgumentException if inputs is null or contains null
+   */
+  public List<Boolean> hasBalancedParentheses(Collection<String> inputs) {
+    return map(inputs, BracketValidator::hasBalancedParentheses);
+  }
+
+  /**
+   * Counts the occurrences of values in every input list with
+   * {@link OccurrenceCounter#countOccurrences(SingleNode)}.
+   *
+   * @param heads the head nodes of the lists to count
+   * @return one map of values to counts per list, in the same order as the inputs
+   * @throws IllegalArgumentException if heads is null or contains null
+   */
+  public List<Map<Integer, Integer>> countOccurrences(Collection<SingleNode> heads) {
+    return map(heads, head -> OccurrenceCounter.countOccurrences(head).toMap());
+  }
+
+  /**
+   * Finds the top scorer of every input map with a {@link TopScorerIndex}, so ties go to the
+   * lexicographically smallest name as in {@link Toolbox#topScorer(Map)}.
+   *
+   * @param scores the score maps to search
+   * @return the top scorers, in the same order as the inputs
+   * @throws IllegalArgumentException if scores is null or contains a null or empty map
+   */
+  public List<String> topScorer(Collection<Map<String, Integer>> scores) {
+    return map(scores, ToolboxBatch::topScorerOf);
+  }
+
+  /**
+   * Applies an operation to every input in parallel.
+   *
+   * If the operation throws for any input, the batch stops early and the exception is rethrown
+   * to the caller.
+   *
+   * @param inputs the inputs
+   * @param operation the operation to apply to each input
+   * @param <T> the input type
+   * @param <R> the result type
+   * @return an unmodifiable list of the results, in the same order as the inputs
+   * @throws IllegalArgumentException if inputs or operation is null
+   */
+  public <T, R> List<R> map(Collection<? extends T> inputs, Function<? super T, ? extends R> operation) {
+    if (inputs == null || operation == null) {
+      throw new IllegalArgumentException("Inputs and operation cannot be null.");
+    }
+    Object[] values = inputs.toArray();
+    Object[] results = new Object[values.length];
+    if (values.length > 0) {
+      int chunk = Math.max(1, values.length / (pool.getParallelism() * CHUNKS_PER_THREAD));
+      pool.invoke(new Chunk<T, R>(values, results, operation, chunk, 0, values.length));
+    }
+    @SuppressWarnings("unchecked")
+    List<R> list = (List<R>) Arrays.asList(results);
+    return Collections.unmodifiableList(list);
+  }
+
+  private static String topScorerOf(Map<String, Integer> scores) {
+    if (scores == null || scores.isEmpty()) {
+      throw new IllegalArgumentException("Scores cannot be null or empty.");
+    }
+    return new TopScorerIndex(scores).topScorer();
+  }
+
+  /**
+   * Shuts the pool down. Batches already running finish first.
+   */
+  @Override
+  public void close() {
+    pool.shutdown();
+  }
+
+  private static class Chunk<T, R> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] inputs;
+    private final Object[] results;
+    private final Function<? super T, ? extends R> operation;
+    private final int chunk;
+    private final int from;
+    private final int to;
+
+    Chunk(Object[] inputs, Object[] results, Function<? super T, ? extends R> operation, int chunk, int from, int to) {
+      this.inputs = inputs;
+      this.results = results;
+      this.operation = operation;
+      this.chunk = chunk;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void compute() {
+      if (to - from <= chunk) {
+        for (int i = from; i < to; i++) {
+          results[i] = operation.apply((T) inputs[i]);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new Chunk<T, R>(inputs, results, operation, chunk, from, middle),
+          new Chunk<T, R>(inputs, results, operation, chunk, middle, to));
+    }
+  }
+}
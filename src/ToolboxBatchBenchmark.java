@@ -0,0 +1,82 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compares {@link ToolboxBatch} with a plain sequential loop over many small inputs, through
+ * {@link MicroBench}.
+ *
+ * Usage: {@code java ToolboxBatchBenchmark [--sizes=1000,100000] [--warmup=ms] [--measure=ms]}
+ *
+ * Each size is the number of inputs in one batch: 64-character bracket strings and 16-node chains.
+ * The rows use the implemented {@link BracketValidator} and {@link OccurrenceCounter} operations, so the
+ * per-input work is real. Batch rows run on pools of 1, 2, 4, ... threads up to the number of available
+ * processors; ops/s is batches per second. B/op only counts the calling thread, so it leaves out what
+ * the operations allocate on pool threads.
+ */
+public class ToolboxBatchBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000};
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    long warmup = 500;
+    long measure = 1000;
+    for (String arg : args) {
+      if (arg.startsWith("--sizes=")) {
+        sizes = Arrays.stream(arg.substring("--sizes=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Long.parseLong(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    MicroBench bench = new MicroBench(warmup, measure);
+    System.out.println(MicroBench.Result.header());
+    for (int size : sizes) {
+      List<String> strings = new ArrayList<>(size);
+      List<SingleNode> heads = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        strings.add(ToolboxBenchmark.parentheses(64));
+        heads.add(ToolboxBenchmark.singleChain(16));
+      }
+
+      System.out.println(bench.run("brackets loop", size, strings,
+          inputs -> sequential(inputs, BracketValidator::hasBalancedParentheses)));
+      System.out.println(bench.run("counts loop", size, heads,
+          inputs -> sequential(inputs, OccurrenceCounter::countOccurrences)));
+      for (int threads : threadCounts()) {
+        try (ToolboxBatch batch = new ToolboxBatch(threads)) {
+          System.out.println(bench.run("brackets batch p" + threads, size, strings,
+              batch::hasBalancedParentheses));
+          System.out.println(bench.run("counts batch p" + threads, size, heads,
+              inputs -> batch.map(inputs, OccurrenceCounter::countOccurrences)));
+        }
+      }
+    }
+  }
+
+  private static <T, R> List<R> sequential(List<T> inputs, Function<T, R> operation) {
+    List<R> results = new ArrayList<>(inputs.size());
+    for (T input : inputs) {
+      results.add(operation.apply(input));
+    }
+    return results;
+  }
+
+  private static int[] threadCounts() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    int[] counts = new int[32 - Integer.numberOfLeadingZeros(processors) + 1];
+    int n = 0;
+    for (int threads = 1; threads < processors; threads *= 2) {
+      counts[n++] = threads;
+    }
+    counts[n++] = processors;
+    return Arrays.copyOf(counts, n);
+  }
+}
@@ -0,0 +1,57 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ToolboxBatchTest {
+
+    @Test
+    void testMapKeepsInputOrder() {
+        List<Integer> inputs = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        try (ToolboxBatch batch = new ToolboxBatch(4)) {
+            assertEquals(4, batch.parallelism());
+            List<Integer> results = batch.map(inputs, value -> value * 2);
+            assertEquals(inputs.stream().map(value -> value * 2).collect(Collectors.toList()), results);
+            assertThrows(UnsupportedOperationException.class, () -> results.set(0, 1));
+        }
+    }
+
+    @Test
+    void testMapWithRealOperations() {
+        List<String> strings = Arrays.asList("(()())", "(()", ")", "");
+        List<SingleNode> heads = Arrays.asList(SingleNode.fromList(Arrays.asList(5, 12, 5)), new SingleNode(1));
+        try (ToolboxBatch batch = new ToolboxBatch(2)) {
+            assertEquals(List.of(true, false, false, true), batch.map(strings, BracketValidator::hasBalancedParentheses));
+            List<Map<Integer, Integer>> counts = batch.map(heads, head -> OccurrenceCounter.countOccurrences(head).toMap());
+            assertEquals(List.of(Map.of(5, 2, 12, 1), Map.of(1, 1)), counts);
+        }
+    }
+
+    @Test
+    void testShortcutsReturnRealResults() {
+        try (ToolboxBatch batch = new ToolboxBatch(2)) {
+            assertEquals(List.of(true, false, false, true), batch.hasBalancedParentheses(List.of("()", "(", ")", "a(b)")));
+            assertEquals(List.of(Map.of(5, 2, 12, 1), Map.of(1, 1)),
+                batch.countOccurrences(List.of(SingleNode.fromList(Arrays.asList(5, 12, 5)), new SingleNode(1))));
+            assertEquals(List.of("Lewis", "Yuki", "Alex"), batch.topScorer(List.of(
+                Map.of("Lewis", 20, "Max", 3), Map.of("Yuki", 23), Map.of("Max", 7, "Alex", 7))));
+            assertEquals(List.of(), batch.hasBalancedParentheses(new ArrayList<>()));
+        }
+    }
+
+    @Test
+    void testExceptionsPropagate() {
+        try (ToolboxBatch batch = new ToolboxBatch(2)) {
+            assertThrows(IllegalArgumentException.class, () -> batch.hasBalancedParentheses(Arrays.asList("()", null)));
+            assertThrows(IllegalArgumentException.class, () -> batch.topScorer(List.of(Map.of("Max", 1), Map.of())));
+            assertThrows(IllegalArgumentException.class, () -> batch.map(null, value -> value));
+            assertThrows(IllegalArgumentException.class, () -> batch.map(List.of(1), null));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ToolboxBatch(0));
+    }
+}
@@ -0,0 +1,226 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.IntFunction;
+
+/**
+ * Runs every {@link Toolbox} operation through {@link MicroBench} at a range of input sizes.
+ *
+ * Usage: {@code java ToolboxBenchmark [--sizes=1000,10000] [--ops=length,findTail] [--warmup=ms] [--measure=ms]}
+ *
+ * By default every operation runs at 1e3, 1e4, 1e5, 1e6 and 1e7 elements. Read-only operations reuse
+ * one input; operations that consume their input rebuild it in the untimed setup step.
+ */
+public class ToolboxBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+
+  private static final Map<String, IntFunction<Case>> CASES = new LinkedHashMap<>();
+
+  static {
+    CASES.put("length", size -> {
+      SingleNode head = singleChain(size);
+      return bench -> bench.run("length", size, head, Toolbox::length);
+    });
+    CASES.put("findTail", size -> {
+      SingleNode head = singleChain(size);
+      return bench -> bench.run("findTail", size, head, Toolbox::findTail);
+    });
+    CASES.put("findHead", size -> {
+      DoubleNode tail = doubleChainTail(size);
+      return bench -> bench.run("findHead", size, tail, Toolbox::findHead);
+    });
+    CASES.put("countOccurrences", size -> {
+      SingleNode head = singleChain(size);
+      return bench -> bench.run("countOccurrences", size, head, Toolbox::countOccurrences);
+    });
+    CASES.put("removeNode", size -> {
+      // Re-splicing the same middle node keeps the list intact between invocations.
+      DoubleNode middle = doubleChainTail(size);
+      for (int i = 0; i < size / 2 && middle.prev != null && middle.prev.prev != null; i++) {
+        middle = middle.prev;
+      }
+      DoubleNode node = middle;
+      DoubleNode before = node.prev;
+      DoubleNode after = node.next;
+      return bench -> bench.runWithSetup("removeNode", size, () -> {
+        node.prev = before;
+        node.next = after;
+        if (before != null) {
+          before.next = node;
+        }
+        if (after != null) {
+          after.prev = node;
+        }
+        return node;
+      }, target -> {
+        Toolbox.removeNode(target);
+        return target;
+      });
+    });
+    CASES.put("findNthElement", size -> {
+      SingleNode head = singleChain(size);
+      return bench -> bench.run("findNthElement", size, head, h -> Toolbox.findNthElement(h, size - 1));
+    });
+    CASES.put("insertNode", size -> {
+      // Inserts after the tail's predecessor and unhooks the new node again in setup.
+      SingleNode head = singleChain(size);
+      SingleNode anchor = head;
+      while (anchor.next != null && anchor.next.next != null) {
+        anchor = anchor.next;
+      }
+      SingleNode node = anchor;
+      SingleNode originalNext = node.next;
+      return bench -> bench.runWithSetup("insertNode", size, () -> {
+        node.next = originalNext;
+        return new SingleNode(-1);
+      }, newNode -> {
+        Toolbox.insertNode(node, newNode);
+        return newNode;
+      });
+    });
+    CASES.put("removeGiants", size -> {
+      int[] values = values(size);
+      return bench -> bench.runWithSetup("removeGiants", size, () -> singleChain(values), head -> {
+        Toolbox.removeGiants(head);
+        return head;
+      });
+    });
+    CASES.put("tripleValues", size -> {
+      // A fresh queue per invocation keeps the values from overflowing as they are tripled again and again.
+      return bench -> bench.runWithSetup("tripleValues", size, () -> queue(size), q -> {
+        Toolbox.tripleValues(q);
+        return q;
+      });
+    });
+    CASES.put("tripleValuesIntRingQueue", size -> {
+      int[] values = values(size);
+      return bench -> bench.runWithSetup("tripleValues ring", size, () -> IntRingQueue.of(values), q -> {
+        Toolbox.tripleValues(q);
+        return q;
+      });
+    });
+    CASES.put("rotateQueueLeft", size -> {
+      Queue<Integer> queue = queue(size);
+      return bench -> bench.run("rotateQueueLeft", size, queue, q -> {
+        Toolbox.rotateQueueLeft(q, size / 3);
+        return q;
+      });
+    });
+    CASES.put("hasBalancedParentheses", size -> {
+      String input = parentheses(size);
+      return bench -> bench.run("hasBalancedParentheses", size, input, Toolbox::hasBalancedParentheses);
+    });
+    CASES.put("topScorer", size -> {
+      Map<String, Integer> scores = scores(size);
+      return bench -> bench.run("topScorer", size, scores, Toolbox::topScorer);
+    });
+  }
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    List<String> ops = new ArrayList<>(CASES.keySet());
+    long warmup = 500;
+    long measure = 1000;
+
+    for (String arg : args) {
+      if (arg.startsWith("--sizes=")) {
+        sizes = Arrays.stream(arg.substring("--sizes=".length()).split(",")).mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--ops=")) {
+        ops = Arrays.asList(arg.substring("--ops=".length()).split(","));
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Long.parseLong(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    MicroBench bench = new MicroBench(warmup, measure);
+    System.out.println(MicroBench.Result.header());
+    for (String op : ops) {
+      IntFunction<Case> factory = CASES.get(op);
+      if (factory == null) {
+        throw new IllegalArgumentException("Unknown operation: " + op);
+      }
+      for (int size : sizes) {
+        System.out.println(factory.apply(size).run(bench));
+      }
+    }
+  }
+
+  // One operation bound to inputs of one size.
+  private interface Case {
+    MicroBench.Result run(MicroBench bench);
+  }
+
+  static int[] values(int size) {
+    int[] values = new int[size];
+    long seed = 42;
+    for (int i = 0; i < size; i++) {
+      seed = seed * 6364136223846793005L + 1442695040888963407L;
+      values[i] = (int) (seed >>> 54);
+    }
+    return values;
+  }
+
+  static SingleNode singleChain(int size) {
+    return singleChain(values(size));
+  }
+
+  static SingleNode singleChain(int[] values) {
+    SingleNode head = new SingleNode(values[0]);
+    SingleNode current = head;
+    for (int i = 1; i < values.length; i++) {
+      current.next = new SingleNode(values[i]);
+      current = current.next;
+    }
+    return head;
+  }
+
+  static DoubleNode doubleChainTail(int size) {
+    int[] values = values(size);
+    DoubleNode current = new DoubleNode(values[0]);
+    for (int i = 1; i < size; i++) {
+      DoubleNode node = new DoubleNode(values[i]);
+      current.next = node;
+      node.prev = current;
+      current = node;
+    }
+    return current;
+  }
+
+  static Queue<Integer> queue(int size) {
+    Queue<Integer> queue = new ArrayDeque<>(size);
+    for (int value : values(size)) {
+      queue.add(value);
+    }
+    return queue;
+  }
+
+  static String parentheses(int size) {
+    StringBuilder builder = new StringBuilder(size);
+    for (int i = 0; i < size / 2; i++) {
+      builder.append('(');
+    }
+    while (builder.length() < size) {
+      builder.append(')');
+    }
+    return builder.toString();
+  }
+
+  static Map<String, Integer> scores(int size) {
+    int[] values = values(size);
+    Map<String, Integer> scores = new HashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      scores.put("player" + i, values[i]);
+    }
+    return scores;
+  }
+}
@@ -0,0 +1,29 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for one {@link Toolbox} call made through {@link InstrumentedToolbox}.
+ *
+ * The event's duration is the time spent in the call. Recordings only contain these events when the
+ * {@code toolbox.Operation} event type is enabled, for example with
+ * {@code -XX:StartFlightRecording:settings=profile} plus {@code jfr configure} or a custom .jfc file.
+ */
+@Name("toolbox.Operation")
+@Label("Toolbox Operation")
+@Category("Toolbox")
+@Description("One call of a Toolbox operation")
+class ToolboxEvent extends jdk.jfr.Event {
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Elements")
+  @Description("Nodes, queue elements, characters or map entries processed by the call")
+  long elements;
+
+  @Label("Nodes")
+  @Description("Linked list nodes visited by the call")
+  long nodes;
+}
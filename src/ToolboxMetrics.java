@@ -0,0 +1,169 @@
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation counters for {@link Toolbox} calls made through {@link InstrumentedToolbox}.
+ *
+ * For every {@link Operation} the metrics keep the number of completed calls, the number of elements
+ * they processed (nodes, queue elements, characters or map entries), the number of list nodes they
+ * visited and the total time spent in them. Only the linked list operations visit nodes, so a growing
+ * node count with a steady call count points at longer lists rather than slower code.
+ *
+ * The counters are {@link LongAdder}s, so threads recording at the same time do not contend on one
+ * cache line. Each recorded call is also committed as a {@link ToolboxEvent} for Flight Recorder.
+ *
+ * Instrumentation is off by default. While it is off, {@link InstrumentedToolbox} checks one volatile
+ * flag and does the same work without recording anything.
+ */
+public class ToolboxMetrics {
+
+  /**
+   * The instrumented Toolbox operations.
+   */
+  public enum Operation {
+    LENGTH, FIND_TAIL, FIND_HEAD, COUNT_OCCURRENCES, REMOVE_NODE, FIND_NTH_ELEMENT, INSERT_NODE,
+    REMOVE_GIANTS, TRIPLE_VALUES, ROTATE_QUEUE_LEFT, HAS_BALANCED_PARENTHESES, TOP_SCORER
+  }
+
+  /**
+   * The totals recorded for one operation at the time {@link #snapshot()} was called.
+   */
+  public static class Stats {
+
+    /**
+     * The number of completed calls.
+     */
+    public final long calls;
+
+    /**
+     * The number of elements processed by those calls.
+     */
+    public final long elements;
+
+    /**
+     * The number of linked list nodes visited by those calls.
+     */
+    public final long nodes;
+
+    /**
+     * The total time spent in those calls, in nanoseconds.
+     */
+    public final long nanos;
+
+    Stats(long calls, long elements, long nodes, long nanos) {
+      this.calls = calls;
+      this.elements = elements;
+      this.nodes = nodes;
+      this.nanos = nanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("calls=%d elements=%d nodes=%d nanos=%d", calls, elements, nodes, nanos);
+    }
+  }
+
+  private static final Operation[] OPERATIONS = Operation.values();
+  private static final LongAdder[] CALLS = adders();
+  private static final LongAdder[] ELEMENTS = adders();
+  private static final LongAdder[] NODES = adders();
+  private static final LongAdder[] NANOS = adders();
+
+  private static volatile boolean enabled;
+
+  private ToolboxMetrics() {
+  }
+
+  /**
+   * Turns recording on or off. Counters keep their values while recording is off.
+   *
+   * @param on true to record calls made through {@link InstrumentedToolbox}
+   */
+  public static void setEnabled(boolean on) {
+    enabled = on;
+  }
+
+  /**
+   * Returns whether calls are being recorded.
+   *
+   * @return true if recording is on
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the current totals of every operation.
+   *
+   * @return a map from each operation to its totals
+   */
+  public static Map<Operation, Stats> snapshot() {
+    Map<Operation, Stats> result = new EnumMap<>(Operation.class);
+    for (Operation operation : OPERATIONS) {
+      result.put(operation, stats(operation));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the current totals of one operation.
+   *
+   * @param operation the operation to report
+   * @return its totals
+   * @throws IllegalArgumentException if operation is null
+   */
+  public static Stats stats(Operation operation) {
+    if (operation == null) {
+      throw new IllegalArgumentException("Operation cannot be null.");
+    }
+    int i = operation.ordinal();
+    return new Stats(CALLS[i].sum(), ELEMENTS[i].sum(), NODES[i].sum(), NANOS[i].sum());
+  }
+
+  /**
+   * Sets every counter back to zero.
+   */
+  public static void reset() {
+    for (int i = 0; i < OPERATIONS.length; i++) {
+      CALLS[i].reset();
+      ELEMENTS[i].reset();
+      NODES[i].reset();
+      NANOS[i].reset();
+    }
+  }
+
+  // Starts the Flight Recorder event for a call; paired with record.
+  static ToolboxEvent begin() {
+    ToolboxEvent event = new ToolboxEvent();
+    event.begin();
+    return event;
+  }
+
+  // Adds one completed call to the counters and commits its event.
+  static void record(Operation operation, long elements, long nodes, long startNanos, ToolboxEvent event) {
+    long nanos = System.nanoTime() - startNanos;
+    int i = operation.ordinal();
+    CALLS[i].increment();
+    ELEMENTS[i].add(elements);
+    if (nodes != 0) {
+      NODES[i].add(nodes);
+    }
+    NANOS[i].add(nanos);
+    event.end();
+    if (event.shouldCommit()) {
+      event.operation = operation.name();
+      event.elements = elements;
+      event.nodes = nodes;
+      event.commit();
+    }
+  }
+
+  private static LongAdder[] adders() {
+    LongAdder[] adders = new LongAdder[Operation.values().length];
+    for (int i = 0; i < adders.length; i++) {
+      adders[i] = new LongAdder();
+    }
+    return adders;
+  }
+}
@@ -0,0 +1,96 @@
+import java.util.Arrays;
+
+/**
+ * Measures what {@link InstrumentedToolbox} adds on top of a direct {@link Toolbox} call, through
+ * {@link MicroBench}.
+ *
+ * Usage: {@code java ToolboxMetricsBenchmark [--sizes=16,1000] [--warmup=ms] [--measure=ms]}
+ *
+ * The queue operations run three ways: calling Toolbox directly, through the facade with recording
+ * off, and through the facade with recording on. The "off" rows should match the direct rows to within
+ * noise. The "on" rows show the cost of up to four LongAdder updates, two nanoTime calls and a Flight
+ * Recorder event that is not being recorded. A small size keeps the operation itself cheap so the
+ * overhead is visible.
+ *
+ * The list operations walk the list inside the facade, so they run with recording off and on only.
+ * Counting the visited nodes happens in the same loop, so the two rows should differ by the fixed
+ * recording cost alone, not by a cost that grows with the list.
+ */
+public class ToolboxMetricsBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {16, 1_000, 100_000};
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    long warmup = 500;
+    long measure = 1000;
+    for (String arg : args) {
+      if (arg.startsWith("--sizes=")) {
+        sizes = Arrays.stream(arg.substring("--sizes=".length()).split(","))
+            .mapToInt(Integer::parseInt).toArray();
+      } else if (arg.startsWith("--warmup=")) {
+        warmup = Long.parseLong(arg.substring("--warmup=".length()));
+      } else if (arg.startsWith("--measure=")) {
+        measure = Long.parseLong(arg.substring("--measure=".length()));
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    MicroBench bench = new MicroBench(warmup, measure);
+    System.out.println(MicroBench.Result.header());
+    for (int size : sizes) {
+      IntRingQueue queue = IntRingQueue.of(ToolboxBenchmark.values(size));
+
+      ToolboxMetrics.setEnabled(false);
+      System.out.println(bench.run("rotate direct", size, queue, q -> {
+        Toolbox.rotateQueueLeft(q, 1);
+        return q;
+      }));
+      System.out.println(bench.run("rotate off", size, queue, q -> {
+        InstrumentedToolbox.rotateQueueLeft(q, 1);
+        return q;
+      }));
+      ToolboxMetrics.setEnabled(true);
+      System.out.println(bench.run("rotate on", size, queue, q -> {
+        InstrumentedToolbox.rotateQueueLeft(q, 1);
+        return q;
+      }));
+
+      // A fresh queue per invocation keeps the values from overflowing as they are tripled again and again.
+      int[] values = ToolboxBenchmark.values(size);
+      ToolboxMetrics.setEnabled(false);
+      System.out.println(bench.runWithSetup("triple direct", size, () -> IntRingQueue.of(values), q -> {
+        Toolbox.tripleValues(q);
+        return q;
+      }));
+      System.out.println(bench.runWithSetup("triple off", size, () -> IntRingQueue.of(values), q -> {
+        InstrumentedToolbox.tripleValues(q);
+        return q;
+      }));
+      ToolboxMetrics.setEnabled(true);
+      System.out.println(bench.runWithSetup("triple on", size, () -> IntRingQueue.of(values), q -> {
+        InstrumentedToolbox.tripleValues(q);
+        return q;
+      }));
+
+      SingleNode head = ToolboxBenchmark.singleChain(values);
+      for (boolean on : new boolean[] {false, true}) {
+        ToolboxMetrics.setEnabled(on);
+        String mode = on ? " on" : " off";
+        System.out.println(bench.run("length" + mode, size, head, InstrumentedToolbox::length));
+        System.out.println(bench.run("findTail" + mode, size, head, InstrumentedToolbox::findTail));
+        System.out.println(bench.run("findNthElement" + mode, size, head,
+            h -> InstrumentedToolbox.findNthElement(h, size - 1)));
+        System.out.println(bench.run("countOccurrences" + mode, size, head,
+            InstrumentedToolbox::countOccurrences));
+        System.out.println(bench.runWithSetup("removeGiants" + mode, size,
+            () -> ToolboxBenchmark.singleChain(values), h -> {
+              InstrumentedToolbox.removeGiants(h);
+              return h;
+            }));
+      }
+      ToolboxMetrics.setEnabled(false);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class ToolboxMetricsTest {
+
+    @AfterEach
+    void tearDown() {
+        ToolboxMetrics.setEnabled(false);
+        ToolboxMetrics.reset();
+    }
+
+    // ----------------------------------------------------------------------
+    // counters
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testDisabledRecordsNothing() {
+        InstrumentedToolbox.tripleValues(IntRingQueue.of(1, 2, 3));
+        assertEquals(0, ToolboxMetrics.stats(ToolboxMetrics.Operation.TRIPLE_VALUES).calls);
+    }
+
+    @Test
+    void testEnabledRecordsCallsAndElements() {
+        ToolboxMetrics.setEnabled(true);
+        IntRingQueue queue = IntRingQueue.of(1, 2, 3);
+        InstrumentedToolbox.tripleValues(queue);
+        InstrumentedToolbox.tripleValues(queue);
+        InstrumentedToolbox.findTail(SingleNode.fromRange(0, 5));
+        InstrumentedToolbox.topScorer(Map.of("Lewis", 20, "Yuki", 23));
+
+        ToolboxMetrics.Stats triple = ToolboxMetrics.stats(ToolboxMetrics.Operation.TRIPLE_VALUES);
+        assertEquals(2, triple.calls);
+        assertEquals(6, triple.elements);
+        assertTrue(triple.nanos >= 0);
+        assertEquals(List.of(9, 18, 27), queue.stream().collect(Collectors.toList()));
+        assertEquals(5, ToolboxMetrics.stats(ToolboxMetrics.Operation.FIND_TAIL).elements);
+        assertEquals(2, ToolboxMetrics.snapshot().get(ToolboxMetrics.Operation.TOP_SCORER).elements);
+
+        ToolboxMetrics.reset();
+        assertEquals(0, ToolboxMetrics.stats(ToolboxMetrics.Operation.TRIPLE_VALUES).calls);
+    }
+
+    @Test
+    void testListOperationsRecordNodesVisited() {
+        ToolboxMetrics.setEnabled(true);
+        SingleNode head = SingleNode.fromRange(0, 6);
+        assertEquals(6, InstrumentedToolbox.length(head));
+        assertEquals(2, InstrumentedToolbox.findNthElement(head, 2).data);
+        assertNull(InstrumentedToolbox.findNthElement(head, 10));
+        DoubleNode tail = DoubleNode.fromList(List.of(1, 2, 3));
+        while (tail.next != null) {
+            tail = tail.next;
+        }
+        assertEquals(1, InstrumentedToolbox.findHead(tail).data);
+        assertEquals(Map.of(1, 2, 2, 1), InstrumentedToolbox.countOccurrences(SingleNode.fromList(List.of(1, 2, 1))));
+        SingleNode giants = SingleNode.fromList(List.of(5, 7, 6, 20, 4, 4));
+        InstrumentedToolbox.removeGiants(giants);
+        assertEquals(List.of(5, 6, 4, 4), giants.toList());
+
+        assertEquals(6, ToolboxMetrics.stats(ToolboxMetrics.Operation.LENGTH).nodes);
+        ToolboxMetrics.Stats nth = ToolboxMetrics.stats(ToolboxMetrics.Operation.FIND_NTH_ELEMENT);
+        assertEquals(2, nth.calls);
+        assertEquals(3 + 6, nth.nodes);
+        assertEquals(3 + 6, nth.elements);
+        assertEquals(3, ToolboxMetrics.stats(ToolboxMetrics.Operation.FIND_HEAD).nodes);
+        assertEquals(3, ToolboxMetrics.stats(ToolboxMetrics.Operation.COUNT_OCCURRENCES).nodes);
+        assertEquals(6, ToolboxMetrics.stats(ToolboxMetrics.Operation.REMOVE_GIANTS).nodes);
+    }
+
+    @Test
+    void testOnlyListOperationsRecordNodes() {
+        ToolboxMetrics.setEnabled(true);
+        InstrumentedToolbox.rotateQueueLeft(IntRingQueue.of(1, 2, 3), 1);
+        InstrumentedToolbox.hasBalancedParentheses("(())");
+        ToolboxMetrics.Stats rotate = ToolboxMetrics.stats(ToolboxMetrics.Operation.ROTATE_QUEUE_LEFT);
+        assertEquals(3, rotate.elements);
+        assertEquals(0, rotate.nodes);
+        assertEquals(0, ToolboxMetrics.stats(ToolboxMetrics.Operation.HAS_BALANCED_PARENTHESES).nodes);
+    }
+
+    @Test
+    void testListResultsDoNotDependOnRecording() {
+        SingleNode head = SingleNode.fromRange(0, 4);
+        SingleNode tailOff = InstrumentedToolbox.findTail(head);
+        ToolboxMetrics.setEnabled(true);
+        assertSame(tailOff, InstrumentedToolbox.findTail(head));
+        assertEquals(3, tailOff.data);
+        assertThrows(IllegalArgumentException.class, () -> InstrumentedToolbox.length(null));
+        assertThrows(IllegalArgumentException.class, () -> InstrumentedToolbox.findNthElement(head, -1));
+        assertEquals(0, ToolboxMetrics.stats(ToolboxMetrics.Operation.FIND_NTH_ELEMENT).calls);
+    }
+
+    @Test
+    void testFailedCallsAreNotRecorded() {
+        ToolboxMetrics.setEnabled(true);
+        assertThrows(IllegalArgumentException.class, () -> InstrumentedToolbox.rotateQueueLeft(null, 1));
+        assertEquals(0, ToolboxMetrics.stats(ToolboxMetrics.Operation.ROTATE_QUEUE_LEFT).calls);
+        assertThrows(IllegalArgumentException.class, () -> ToolboxMetrics.stats(null));
+    }
+
+    // ----------------------------------------------------------------------
+    // Flight Recorder events
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testEventsReachFlightRecorder(@TempDir Path dir) throws Exception {
+        ToolboxMetrics.setEnabled(true);
+        Path file = dir.resolve("toolbox.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("toolbox.Operation");
+            recording.start();
+            InstrumentedToolbox.rotateQueueLeft(IntRingQueue.of(1, 2, 3, 4), 1);
+            InstrumentedToolbox.length(SingleNode.fromRange(0, 7));
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals("toolbox.Operation"))
+            .collect(Collectors.toList());
+        assertEquals(2, events.size());
+        assertEquals("ROTATE_QUEUE_LEFT", events.get(0).getString("operation"));
+        assertEquals(4, events.get(0).getLong("elements"));
+        assertEquals(0, events.get(0).getLong("nodes"));
+        assertEquals("LENGTH", events.get(1).getString("operation"));
+        assertEquals(7, events.get(1).getLong("nodes"));
+    }
+}
@@ -372,6 +372,13 @@ public class ToolboxTest {
         assertTrue(queue.isEmpty());
     }
 
+    @Test
+    void testTripleValuesIntRingQueue() {
+        IntRingQueue queue = IntRingQueue.of(5, 3, 2, 7);
+        Toolbox.tripleValues(queue);
+        assertEquals(Arrays.asList(15, 9, 6, 21), new ArrayList<>(queue));
+    }
+
     @Test
     void testTripleValuesNullQueue() {
         assertThrows(IllegalArgumentException.class, () -> Toolbox.tripleValues(null));
@@ -402,6 +409,13 @@ public class ToolboxTest {
         assertEquals(Arrays.asList(1, 14, 8, 3, 9), new ArrayList<>(queue));
     }
 
+    @Test
+    void testRotateQueueLeftIntRingQueue() {
+        IntRingQueue queue = IntRingQueue.of(3, 9, 1, 14, 8);
+        Toolbox.rotateQueueLeft(queue, 7);
+        assertEquals(Arrays.asList(1, 14, 8, 3, 9), new ArrayList<>(queue));
+    }
+
     @Test
     void testRotateQueueLeftNullQueue() {
         assertThrows(IllegalArgumentException.class, () -> Toolbox.rotateQueueLeft(null, 2));
@@ -0,0 +1,170 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Keeps players ordered by score as updates arrive, so the top scorer does not have to be found
+ * by rescanning a map on every query as {@link Toolbox#topScorer(Map)} does.
+ *
+ * Players are ordered by score, highest first, and players with equal scores by name, so the
+ * lexicographically smallest name wins a tie exactly as in {@link Toolbox#topScorer(Map)}.
+ * Updates and {@link #topScorer()} take O(log n); {@link #topK(int)} takes O(log n + k).
+ *
+ * This class is not thread-safe.
+ */
+public class TopScorerIndex {
+
+  private static final class Entry implements Comparable<Entry> {
+    final String name;
+    final int score;
+
+    Entry(String name, int score) {
+      this.name = name;
+      this.score = score;
+    }
+
+    @Override
+    public int compareTo(Entry other) {
+      int byScore = Integer.compare(other.score, score);
+      return byScore != 0 ? byScore : name.compareTo(other.name);
+    }
+  }
+
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final TreeSet<Entry> ranking = new TreeSet<>();
+
+  /**
+   * Constructs an empty index.
+   */
+  public TopScorerIndex() {
+  }
+
+  /**
+   * Constructs an index holding the given scores.
+   *
+   * @param scores the initial scores, keyed by player name
+   * @throws IllegalArgumentException if scores is null or contains a null name or score
+   */
+  public TopScorerIndex(Map<String, Integer> scores) {
+    if (scores == null) {
+      throw new IllegalArgumentException("Scores cannot be null.");
+    }
+    for (Map.Entry<String, Integer> score : scores.entrySet()) {
+      if (score.getValue() == null) {
+        throw new IllegalArgumentException("Scores cannot contain null values.");
+      }
+      update(score.getKey(), score.getValue());
+    }
+  }
+
+  /**
+   * Sets a player's score, adding the player if needed.
+   *
+   * @param name the player's name
+   * @param score the new score
+   * @throws IllegalArgumentException if name is null
+   */
+  public void update(String name, int score) {
+    if (name == null) {
+      throw new IllegalArgumentException("Name cannot be null.");
+    }
+    Entry previous = entries.get(name);
+    if (previous != null) {
+      if (previous.score == score) {
+        return;
+      }
+      ranking.remove(previous);
+    }
+    Entry entry = new Entry(name, score);
+    entries.put(name, entry);
+    ranking.add(entry);
+  }
+
+  /**
+   * Adds delta to a player's score, treating an unknown player as having 0.
+   *
+   * @param name the player's name
+   * @param delta the amount to add
+   * @return the new score
+   * @throws IllegalArgumentException if name is null
+   */
+  public int increment(String name, int delta) {
+    if (name == null) {
+      throw new IllegalArgumentException("Name cannot be null.");
+    }
+    Entry previous = entries.get(name);
+    int score = (previous == null ? 0 : previous.score) + delta;
+    update(name, score);
+    return score;
+  }
+
+  /**
+   * Removes a player.
+   *
+   * @param name the player's name
+   * @return true if the player was present
+   */
+  public boolean remove(String name) {
+    Entry previous = entries.remove(name);
+    if (previous == null) {
+      return false;
+    }
+    ranking.remove(previous);
+    return true;
+  }
+
+  /**
+   * Returns a player's current score.
+   *
+   * @param name the player's name
+   * @return the score, or null if the player is unknown
+   */
+  public Integer score(String name) {
+    Entry entry = entries.get(name);
+    return entry == null ? null : entry.score;
+  }
+
+  /**
+   * Returns the number of players.
+   *
+   * @return the number of players
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the player with the highest score, or the first player lexicographically if there is a tie.
+   *
+   * @return the top scorer
+   * @throws IllegalStateException if the index is empty
+   */
+  public String topScorer() {
+    if (ranking.isEmpty()) {
+      throw new IllegalStateException("No scores have been recorded.");
+    }
+    return ranking.first().name;
+  }
+
+  /**
+   * Returns up to k players in ranking order: highest score first, ties broken by name.
+   *
+   * @param k the number of players to return
+   * @return the top k players, or all players if there are fewer than k
+   * @throws IllegalArgumentException if k is negative
+   */
+  public List<String> topK(int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k cannot be negative.");
+    }
+    List<String> result = new ArrayList<>(Math.min(k, ranking.size()));
+    Iterator<Entry> iterator = ranking.iterator();
+    while (result.size() < k && iterator.hasNext()) {
+      result.add(iterator.next().name);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,92 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class TopScorerIndexTest {
+
+    // ----------------------------------------------------------------------
+    // topScorer()
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testTopScorerTypical() {
+        TopScorerIndex index = new TopScorerIndex(Map.of("Lewis", 20, "Yuki", 23, "Kimi", 16));
+        assertEquals("Yuki", index.topScorer());
+    }
+
+    @Test
+    void testTopScorerTieLexOrder() {
+        TopScorerIndex index = new TopScorerIndex(Map.of("Bob", 50, "Alice", 50, "Charlie", 40));
+        assertEquals("Alice", index.topScorer());
+    }
+
+    @Test
+    void testTopScorerFollowsUpdates() {
+        TopScorerIndex index = new TopScorerIndex(Map.of("Lewis", 20, "Yuki", 23));
+        index.update("Lewis", 30);
+        assertEquals("Lewis", index.topScorer());
+        assertEquals(24, index.increment("Yuki", 1));
+        assertEquals(30, index.increment("Max", 30));
+        assertEquals("Lewis", index.topScorer());
+        assertTrue(index.remove("Lewis"));
+        assertEquals("Max", index.topScorer());
+        assertFalse(index.remove("Lewis"));
+        assertNull(index.score("Lewis"));
+    }
+
+    @Test
+    void testTopScorerEmpty() {
+        assertThrows(IllegalStateException.class, () -> new TopScorerIndex().topScorer());
+    }
+
+    @Test
+    void testMatchesRescanOnRandomUpdates() {
+        Random random = new Random(5);
+        TopScorerIndex index = new TopScorerIndex();
+        Map<String, Integer> scores = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            String name = "p" + random.nextInt(200);
+            int score = random.nextInt(50) - 10;
+            index.update(name, score);
+            scores.put(name, score);
+            assertEquals(rescan(scores), index.topScorer());
+        }
+        assertEquals(scores.size(), index.size());
+    }
+
+    // ----------------------------------------------------------------------
+    // topK(int k)
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testTopK() {
+        TopScorerIndex index = new TopScorerIndex(Map.of("C", 5, "A", 5, "B", 9, "D", 1));
+        assertEquals(List.of("B", "A", "C"), index.topK(3));
+        assertEquals(List.of("B", "A", "C", "D"), index.topK(10));
+        assertEquals(new ArrayList<String>(), index.topK(0));
+        assertThrows(IllegalArgumentException.class, () -> index.topK(-1));
+    }
+
+    @Test
+    void testNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TopScorerIndex(null));
+        assertThrows(IllegalArgumentException.class, () -> new TopScorerIndex().update(null, 1));
+    }
+
+    // The reference answer, spelled out so this test does not depend on Toolbox.topScorer.
+    private static String rescan(Map<String, Integer> scores) {
+        String best = null;
+        for (Map.Entry<String, Integer> entry : scores.entrySet()) {
+            if (best == null || entry.getValue() > scores.get(best)
+                || (entry.getValue().equals(scores.get(best)) && entry.getKey().compareTo(best) < 0)) {
+                best = entry.getKey();
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,316 @@
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * A singly linked list of ints that stores up to {@code blockCapacity} values per node.
+ *
+ * Each node ("block") holds an {@code int[]} and a count, so a walk reads values sequentially from
+ * each block and follows one reference per block instead of one per value. With the default block
+ * capacity of 64 the per-value overhead drops from a 24-byte {@link SingleNode} to a little over 4 bytes.
+ * The total length is kept, so {@link #length()} and {@link #last()} are O(1), and {@link #get(int)}
+ * skips whole blocks using their counts.
+ *
+ * Inserting into a full block splits it into two half-full blocks. Bulk builders such as
+ * {@link #fromChain(SingleNode)} fill blocks completely.
+ */
+public class UnrolledIntList {
+
+  private static final int DEFAULT_BLOCK_CAPACITY = 64;
+
+  private static final class Block {
+    final int[] values;
+    int count;
+    Block next;
+
+    Block(int capacity) {
+      values = new int[capacity];
+    }
+  }
+
+  private final int blockCapacity;
+  private Block head;
+  private Block tail;
+  private int size;
+
+  /**
+   * Constructs an empty list with the default block capacity.
+   */
+  public UnrolledIntList() {
+    this(DEFAULT_BLOCK_CAPACITY);
+  }
+
+  /**
+   * Constructs an empty list whose blocks hold up to blockCapacity values each.
+   *
+   * @param blockCapacity the number of values per block
+   * @throws IllegalArgumentException if blockCapacity is less than 2
+   */
+  public UnrolledIntList(int blockCapacity) {
+    if (blockCapacity < 2) {
+      throw new IllegalArgumentException("Block capacity must be at least 2.");
+    }
+    this.blockCapacity = blockCapacity;
+  }
+
+  /**
+   * Builds a list holding the values of a singly linked list, with the default block capacity.
+   *
+   * @param head the head node of the singly linked list
+   * @return a new list with the same values in the same order
+   * @throws IllegalArgumentException if the head is null
+   */
+  public static UnrolledIntList fromChain(SingleNode head) {
+    return fromChain(head, DEFAULT_BLOCK_CAPACITY);
+  }
+
+  /**
+   * Builds a list holding the values of a singly linked list.
+   *
+   * @param head the head node of the singly linked list
+   * @param blockCapacity the number of values per block
+   * @return a new list with the same values in the same order
+   * @throws IllegalArgumentException if the head is null or blockCapacity is less than 2
+   */
+  public static UnrolledIntList fromChain(SingleNode head, int blockCapacity) {
+    if (head == null) {
+      throw new IllegalArgumentException("Head cannot be null.");
+    }
+    UnrolledIntList list = new UnrolledIntList(blockCapacity);
+    for (SingleNode current = head; current != null; current = current.next) {
+      list.append(current.data);
+    }
+    return list;
+  }
+
+  /**
+   * Builds a singly linked list holding the values of this list.
+   *
+   * @return the head node of the new chain, or null if this list is empty
+   */
+  public SingleNode toChain() {
+    SingleNode first = null;
+    SingleNode last = null;
+    for (Block block = head; block != null; block = block.next) {
+      for (int i = 0; i < block.count; i++) {
+        SingleNode node = new SingleNode(block.values[i]);
+        if (last == null) {
+          first = node;
+        } else {
+          last.next = node;
+        }
+        last = node;
+      }
+    }
+    return first;
+  }
+
+  /**
+   * Copies the values into a new array.
+   *
+   * @return the values in list order
+   */
+  public int[] toIntArray() {
+    int[] result = new int[size];
+    int offset = 0;
+    for (Block block = head; block != null; block = block.next) {
+      System.arraycopy(block.values, 0, result, offset, block.count);
+      offset += block.count;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of values in the list in O(1).
+   *
+   * @return the length of the list
+   */
+  public int length() {
+    return size;
+  }
+
+  /**
+   * Returns whether the list holds no values.
+   *
+   * @return true if the list is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the last value in O(1).
+   *
+   * @return the tail value
+   * @throws NoSuchElementException if the list is empty
+   */
+  public int last() {
+    if (size == 0) {
+      throw new NoSuchElementException("List is empty.");
+    }
+    return tail.values[tail.count - 1];
+  }
+
+  /**
+   * Returns the value at index n, skipping whole blocks.
+   *
+   * @param n the index of the value (0-based)
+   * @return the value at that index
+   * @throws IllegalArgumentException if n is negative
+   * @throws IndexOutOfBoundsException if n is not less than {@link #length()}
+   */
+  public int get(int n) {
+    if (n < 0) {
+      throw new IllegalArgumentException("n cannot be negative.");
+    }
+    if (n >= size) {
+      throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + size);
+    }
+    Block block = head;
+    while (n >= block.count) {
+      n -= block.count;
+      block = block.next;
+    }
+    return block.values[n];
+  }
+
+  /**
+   * Adds a value to the end of the list in O(1).
+   *
+   * @param value the value to add
+   */
+  public void append(int value) {
+    if (tail == null || tail.count == blockCapacity) {
+      Block block = new Block(blockCapacity);
+      if (tail == null) {
+        head = block;
+      } else {
+        tail.next = block;
+      }
+      tail = block;
+    }
+    tail.values[tail.count++] = value;
+    size++;
+  }
+
+  /**
+   * Inserts a value directly after the value at index n.
+   *
+   * @param n the index of the value after which to insert (0-based)
+   * @param value the value to insert
+   * @throws IllegalArgumentException if n is negative
+   * @throws IndexOutOfBoundsException if n is not less than {@link #length()}
+   */
+  public void insertAfter(int n, int value) {
+    if (n < 0) {
+      throw new IllegalArgumentException("n cannot be negative.");
+    }
+    if (n >= size) {
+      throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + size);
+    }
+    Block block = head;
+    while (n >= block.count) {
+      n -= block.count;
+      block = block.next;
+    }
+    int position = n + 1;
+    if (block.count == blockCapacity) {
+      // Move the upper half to a new block and insert into whichever half the position falls in.
+      Block upper = new Block(blockCapacity);
+      int keep = blockCapacity / 2;
+      upper.count = blockCapacity - keep;
+      System.arraycopy(block.values, keep, upper.values, 0, upper.count);
+      block.count = keep;
+      upper.next = block.next;
+      block.next = upper;
+      if (tail == block) {
+        tail = upper;
+      }
+      if (position > keep) {
+        block = upper;
+        position -= keep;
+      }
+    }
+    System.arraycopy(block.values, position, block.values, position + 1, block.count - position);
+    block.values[position] = value;
+    block.count++;
+    size++;
+  }
+
+  /**
+   * Calls the consumer with every value, front first.
+   *
+   * @param consumer the code to run for each value
+   * @throws IllegalArgumentException if consumer is null
+   */
+  public void forEach(IntConsumer consumer) {
+    if (consumer == null) {
+      throw new IllegalArgumentException("Consumer cannot be null.");
+    }
+    for (Block block = head; block != null; block = block.next) {
+      int[] values = block.values;
+      for (int i = 0, count = block.count; i < count; i++) {
+        consumer.accept(values[i]);
+      }
+    }
+  }
+
+  /**
+   * Counts the occurrences of values in the list.
+   *
+   * @return a map where the keys are the values in the list, and the values are the counts of occurrences
+   */
+  public IntIntHashMap countOccurrences() {
+    IntIntHashMap counts = new IntIntHashMap();
+    for (Block block = head; block != null; block = block.next) {
+      int[] values = block.values;
+      for (int i = 0, count = block.count; i < count; i++) {
+        counts.addTo(values[i], 1);
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Removes every value that is greater than the value originally following it, except the first,
+   * as {@link Toolbox#removeGiants(SingleNode)} does for a chain.
+   *
+   * The survivors are compacted towards the front in one pass, filling blocks completely, and the
+   * blocks left empty at the end are dropped.
+   */
+  public void removeGiants() {
+    if (size == 0) {
+      return;
+    }
+    // Writing never overtakes reading: at most as many values have been written as read, and the
+    // blocks written so far have at least as many slots as the blocks read so far had values.
+    Block read = head;
+    int readIndex = 0;
+    Block write = head;
+    int writeIndex = 0;
+    int kept = 0;
+    int current = head.values[0];
+    for (int i = 0; i < size; i++) {
+      readIndex++;
+      if (readIndex == read.count) {
+        read = read.next;
+        readIndex = 0;
+      }
+      boolean last = read == null;
+      int following = last ? 0 : read.values[readIndex];
+      if (i == 0 || last || current <= following) {
+        if (writeIndex == blockCapacity) {
+          write.count = writeIndex;
+          write = write.next;
+          writeIndex = 0;
+        }
+        write.values[writeIndex++] = current;
+        kept++;
+      }
+      current = following;
+    }
+    write.count = writeIndex;
+    write.next = null;
+    tail = write;
+    size = kept;
+  }
+}
@@ -0,0 +1,94 @@
+import java.lang.ref.Reference;
+
+/**
+ * Compares heap use and traversal time of {@link UnrolledIntList} against {@link SingleNode} chains.
+ *
+ * Run with {@code java UnrolledIntListBenchmark [size...]}. Heap figures come from {@link Runtime}
+ * after forced collections, so run with a fixed heap (for example {@code -Xms4g -Xmx4g}) to keep them
+ * stable. "sum" walks every value; "nth" fetches the last value by index, which the unrolled list
+ * reaches by skipping whole blocks.
+ */
+public class UnrolledIntListBenchmark {
+
+  private static final int[] DEFAULT_SIZES = {1_000_000, 10_000_000};
+  private static final int ROUNDS = 10;
+
+  private static volatile long sink;
+
+  public static void main(String[] args) {
+    int[] sizes = DEFAULT_SIZES;
+    if (args.length > 0) {
+      sizes = new int[args.length];
+      for (int i = 0; i < args.length; i++) {
+        sizes[i] = Integer.parseInt(args[i]);
+      }
+    }
+
+    System.out.printf("%12s %14s %14s %12s %12s %12s %12s%n",
+        "size", "chain bytes", "unrolled bytes", "chain sum", "unroll sum", "chain nth", "unroll nth");
+    for (int size : sizes) {
+      run(size);
+    }
+  }
+
+  private static void run(int size) {
+    int[] values = ToolboxBenchmark.values(size);
+
+    long before = usedHeap();
+    SingleNode chain = SingleNode.fromArray(values);
+    long chainBytes = usedHeap() - before;
+
+    before = usedHeap();
+    UnrolledIntList unrolled = UnrolledIntList.fromChain(chain);
+    long unrolledBytes = usedHeap() - before;
+    // values and chain must stay reachable until both measurements are taken, or collecting them skews
+    // the deltas.
+    Reference.reachabilityFence(values);
+    Reference.reachabilityFence(chain);
+
+    long chainSum = Long.MAX_VALUE;
+    long unrolledSum = Long.MAX_VALUE;
+    long chainNth = Long.MAX_VALUE;
+    long unrolledNth = Long.MAX_VALUE;
+    long[] total = new long[1];
+    for (int round = 0; round < ROUNDS; round++) {
+      long start = System.nanoTime();
+      long sum = 0;
+      for (SingleNode current = chain; current != null; current = current.next) {
+        sum += current.data;
+      }
+      sink += sum;
+      chainSum = Math.min(chainSum, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      total[0] = 0;
+      unrolled.forEach(value -> total[0] += value);
+      sink += total[0];
+      unrolledSum = Math.min(unrolledSum, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      SingleNode current = chain;
+      for (int i = 0; i < size - 1; i++) {
+        current = current.next;
+      }
+      sink += current.data;
+      chainNth = Math.min(chainNth, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      sink += unrolled.get(size - 1);
+      unrolledNth = Math.min(unrolledNth, System.nanoTime() - start);
+    }
+
+    System.out.printf("%12d %14d %14d %10.2fms %10.2fms %10.2fms %10.2fms%n",
+        size, chainBytes, unrolledBytes,
+        chainSum / 1e6, unrolledSum / 1e6, chainNth / 1e6, unrolledNth / 1e6);
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,114 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class UnrolledIntListTest {
+
+    // ----------------------------------------------------------------------
+    // conversion and queries
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testChainRoundTrip() {
+        SingleNode chain = SingleNode.fromRange(0, 10);
+        UnrolledIntList list = UnrolledIntList.fromChain(chain, 4);
+        assertEquals(10, list.length());
+        assertEquals(chain.toList(), list.toChain().toList());
+        assertArrayEquals(chain.toIntArray(), list.toIntArray());
+        assertEquals(9, list.last());
+        assertEquals(6, list.get(6));
+    }
+
+    @Test
+    void testEmptyList() {
+        UnrolledIntList list = new UnrolledIntList();
+        assertTrue(list.isEmpty());
+        assertNull(list.toChain());
+        assertThrows(NoSuchElementException.class, list::last);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        list.removeGiants();
+        assertEquals(0, list.length());
+    }
+
+    @Test
+    void testCountOccurrences() {
+        UnrolledIntList list = UnrolledIntList.fromChain(SingleNode.fromList(Arrays.asList(5, 12, 5, 3, 5, 12)), 2);
+        assertEquals(Map.of(5, 3, 12, 2, 3, 1), list.countOccurrences().toMap());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        UnrolledIntList list = UnrolledIntList.fromChain(new SingleNode(1));
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledIntList(1));
+        assertThrows(IllegalArgumentException.class, () -> UnrolledIntList.fromChain(null));
+        assertThrows(IllegalArgumentException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insertAfter(1, 5));
+        assertThrows(IllegalArgumentException.class, () -> list.forEach(null));
+    }
+
+    // ----------------------------------------------------------------------
+    // insertAfter
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testInsertAfterSplitsFullBlocks() {
+        Random random = new Random(19);
+        UnrolledIntList list = new UnrolledIntList(4);
+        List<Integer> expected = new ArrayList<>();
+        list.append(0);
+        expected.add(0);
+        for (int i = 1; i < 500; i++) {
+            int n = random.nextInt(expected.size());
+            list.insertAfter(n, i);
+            expected.add(n + 1, i);
+        }
+        assertEquals(expected, list.toChain().toList());
+        assertEquals(expected.get(expected.size() - 1), list.last());
+        for (int i = 0; i < expected.size(); i += 37) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        list.append(-1);
+        assertEquals(-1, list.last());
+    }
+
+    // ----------------------------------------------------------------------
+    // removeGiants
+    // ----------------------------------------------------------------------
+
+    @Test
+    void testRemoveGiants() {
+        UnrolledIntList list = UnrolledIntList.fromChain(SingleNode.fromList(Arrays.asList(5, 7, 6, 20, 4, 4)), 2);
+        list.removeGiants();
+        assertEquals(List.of(5, 6, 4, 4), list.toChain().toList());
+        assertEquals(4, list.length());
+        assertEquals(4, list.last());
+    }
+
+    @Test
+    void testRemoveGiantsMatchesChain() {
+        Random random = new Random(190);
+        for (int round = 0; round < 200; round++) {
+            int[] values = random.ints(1 + random.nextInt(100), 0, 6).toArray();
+            SingleNode expected = SingleNode.fromArray(values);
+            GiantRemover.removeGiants(expected);
+
+            // Half-full blocks from inserts exercise compaction across blocks of different counts.
+            UnrolledIntList list = new UnrolledIntList(4);
+            list.append(values[0]);
+            for (int i = 1; i < values.length; i++) {
+                list.insertAfter(i - 1, values[i]);
+            }
+            list.removeGiants();
+            assertEquals(expected.toList(), list.toChain().toList());
+            assertEquals(expected.toIntArray().length, list.length());
+            list.append(99);
+            assertEquals(99, list.last());
+        }
+    }
+}